@@ -42,6 +42,23 @@ public final class ClientProperties {
    */
   public static final String CONTENT_LENGTH_BUFFER_CLIENT = "jetrs.client.contentLength.buffer";
 
+  /**
+   * Sets whether a request entity without a {@value HttpHeaders#CONTENT_LENGTH} header is buffered in a pooled buffer of the size
+   * configured by {@link #CONTENT_LENGTH_BUFFER_CLIENT}, so that an entity that fits in the buffer is sent in fixed-length streaming
+   * mode. Larger entities are left to the default handling of the connection.
+   * <p>
+   * Default: {@code "false"}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @implNote In fixed-length streaming mode, the connection cannot resend the entity, and thus throws
+   *           {@link java.net.HttpRetryException} for a response that would have been answered by resending the request, i.e. a
+   *           {@code 401} or {@code 407} answered through the default {@link java.net.Authenticator}, or a redirect that is followed
+   *           by the connection. This property should therefore only be enabled for requests that do not rely on such handling. It is
+   *           ignored for a {@link #PROXY_URI} with credentials.
+   */
+  public static final String FIXED_LENGTH_STREAMING = "jetrs.client.fixedLengthStreaming";
+
   /**
    * Sets the maximum number of connections to open to each destinations.
    * <p>
@@ -53,11 +53,13 @@ import javax.ws.rs.ext.MessageBodyWriter;
 
 import org.libj.lang.Booleans;
 import org.libj.lang.Numbers;
+import org.libj.lang.Systems;
 import org.libj.net.URLConnections;
 import org.libj.util.CollectionUtil;
 import org.libj.util.Dates;
 
 public class Jdk8ClientDriver extends ClientDriver {
+  private static final int bufferSize = Systems.getProperty(ClientProperties.CONTENT_LENGTH_BUFFER_CLIENT, CommonProperties.CONTENT_LENGTH_BUFFER, CommonProperties.CONTENT_LENGTH_BUFFER_DEFAULT);
   static final CookieStore cookieStore;
 
   static {
@@ -73,11 +75,94 @@ public class Jdk8ClientDriver extends ClientDriver {
     cookies.put(newCookie.getName(), newCookie);
   }
 
+  /**
+   * Buffer of the request entity, which sends an entity that fits in the buffer in fixed-length streaming mode. Otherwise, the
+   * {@link HttpURLConnection} is left to buffer the entity on its own, as if the entity had not been buffered.
+   * <p>
+   * In streaming mode, the {@link HttpURLConnection} cannot resend the entity, and throws {@link java.net.HttpRetryException} for a
+   * response that requires the request to be resent. The entity is therefore only buffered if
+   * {@link ClientProperties#FIXED_LENGTH_STREAMING} is enabled, and not for connections that are expected to authenticate, i.e. via
+   * a {@link ProxyConfig} with credentials.
+   */
+  private static final class BufferedConnectionOutputStream extends SafeDirectByteArrayOutputStream {
+    private final HttpURLConnection connection;
+    private OutputStream out;
+    private boolean failed;
+
+    private BufferedConnectionOutputStream(final HttpURLConnection connection, final int size) {
+      super(size);
+      this.connection = connection;
+    }
+
+    @Override
+    boolean beforeOverflow(final int b, final byte[] bs, final int off, final int len) throws IOException {
+      try {
+        out = connection.getOutputStream();
+        out.write(buf, 0, count);
+      }
+      catch (final IOException | RuntimeException e) {
+        failed = true;
+        throw e;
+      }
+      finally {
+        super.close();
+      }
+
+      if (bs != null)
+        out.write(bs, off, len);
+      else
+        out.write(b);
+
+      return false;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      if (out != null)
+        out.write(b);
+      else if (failed)
+        throw new IOException("Request entity stream has failed");
+      else
+        super.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      if (out != null)
+        out.write(b, off, len);
+      else if (failed)
+        throw new IOException("Request entity stream has failed");
+      else
+        super.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (out == null) {
+        // The buffer has already been released if the overflow to the connection has failed
+        if (failed)
+          return;
+
+        try {
+          connection.setFixedLengthStreamingMode((long)count);
+          out = connection.getOutputStream();
+          out.write(buf, 0, count);
+        }
+        finally {
+          super.close();
+        }
+      }
+
+      out.close();
+    }
+  }
+
   @Override
   Invocation build(final ClientImpl client, final ClientRuntimeContext runtimeContext, final URI uri, final String method, final HttpHeadersImpl requestHeaders, final ArrayList<Cookie> cookies, final CacheControl cacheControl, final Entity<?> entity, final ExecutorService executorService, final ScheduledExecutorService scheduledExecutorService, final HashMap<String,Object> properties, final long connectTimeoutMs, final long readTimeoutMs) throws Exception {
     return new ClientRequestContextImpl(client, runtimeContext, uri, method, requestHeaders, cookies, cacheControl, entity, executorService, scheduledExecutorService, properties, connectTimeoutMs, readTimeoutMs) {
       private final SSLContext sslContext;
       private InputStream entityStream;
+      private boolean isEntityBuffered;
 
       {
         SSLContext sslContext = client.getSslContext();
@@ -144,10 +229,18 @@ public class Jdk8ClientDriver extends ClientDriver {
             setHeaders(connection);
             final HttpHeadersMap<Object,String> mirrorMap = requestHeaders.getMirrorMap();
             final Number contentLength = (Number)mirrorMap.getFirst(HttpHeaders.CONTENT_LENGTH);
-            if (contentLength != null)
+            final OutputStream out;
+            if (contentLength != null) {
               connection.setFixedLengthStreamingMode(contentLength.longValue());
+              out = connection.getOutputStream();
+            }
+            else if (isEntityBuffered && !requestHeaders.containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+              out = new BufferedConnectionOutputStream(connection, bufferSize);
+            }
+            else {
+              out = connection.getOutputStream();
+            }
 
-            final OutputStream out = connection.getOutputStream();
             $span(Span.ENTITY_INIT, Span.ENTITY_WRITE);
             return out;
           }, $isSpanEnabled() ? () -> $span(Span.ENTITY_WRITE) : null);
@@ -165,6 +258,9 @@ public class Jdk8ClientDriver extends ClientDriver {
           if (proxyConfig != null)
             proxyConfig.acquire();
 
+          // The entity is only buffered for fixed-length streaming if enabled, and not if the proxy may need to be authenticated, which requires a resend
+          isEntityBuffered = bufferSize > 0 && client.hasProperty(ClientProperties.FIXED_LENGTH_STREAMING) && (proxyConfig == null || !proxyConfig.hasCredentials());
+
           final URL url = getUri().toURL();
           final URLConnection urlConnection = proxyConfig != null ? url.openConnection(proxyConfig.getProxy()) : url.openConnection();
 
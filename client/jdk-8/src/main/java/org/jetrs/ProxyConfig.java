@@ -50,6 +50,16 @@ class ProxyConfig extends ProxyURI {
     }
   }
 
+  /**
+   * Returns whether this {@link ProxyConfig} specifies credentials, with which the proxy is authenticated upon a
+   * {@code 407 Proxy Authentication Required} response.
+   *
+   * @return Whether this {@link ProxyConfig} specifies credentials.
+   */
+  boolean hasCredentials() {
+    return username != null;
+  }
+
   void acquire() {
     if (username == null)
       return;
@@ -22,6 +22,7 @@ class AbortFilterChainException extends RuntimeException {
   private final Response response;
 
   AbortFilterChainException(final Response response) {
+    super(null, null, true, false); // Only carries the Response, so the stack trace is never needed, but suppression must remain enabled for addSuppressed()
     this.response = response;
   }
 
@@ -43,10 +43,35 @@ abstract class ComponentSet<T extends Component<?>> extends SortedSetArrayList<T
     }
   }
 
+  private volatile Object cache;
+
   private ComponentSet(final Comparator<? super T> comparator) {
     super(comparator);
   }
 
+  /**
+   * Returns the cache of values derived from the components of this {@link ComponentSet}, or {@code null} if no cache is attached.
+   *
+   * @return The cache of values derived from the components of this {@link ComponentSet}, or {@code null} if no cache is attached.
+   */
+  final Object getCache() {
+    return cache;
+  }
+
+  /**
+   * Attaches the specified cache of values derived from the components of this {@link ComponentSet}, which is discarded by
+   * {@link #invalidateCache()} when the configuration changes.
+   *
+   * @param cache The cache.
+   */
+  final void setCache(final Object cache) {
+    this.cache = cache;
+  }
+
+  final void invalidateCache() {
+    cache = null;
+  }
+
   final boolean contains(final Class<?> clazz, final boolean isDefaultProvider) {
     for (int i = size() - 1; i >= 0; --i) { // [RA]
       final Component<?> component = get(i);
@@ -105,6 +130,8 @@ abstract class ComponentSet<T extends Component<?>> extends SortedSetArrayList<T
   @Override
   @SuppressWarnings("unchecked")
   public final ComponentSet<T> clone() {
-    return (ComponentSet<T>)super.clone();
+    final ComponentSet<T> clone = (ComponentSet<T>)super.clone();
+    clone.cache = null;
+    return clone;
   }
 }
\ No newline at end of file
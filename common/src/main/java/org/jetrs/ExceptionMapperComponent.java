@@ -28,6 +28,7 @@ final class ExceptionMapperComponent extends TypeComponent<ExceptionMapper<?>> {
       return components;
 
     components.add(new ExceptionMapperComponent(clazz, instance, isDefaultProvider, contracts, priority));
+    components.invalidateCache();
     return components;
   }
 
@@ -0,0 +1,260 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+
+import org.libj.lang.Classes;
+
+/**
+ * Metadata of the injection of instances of a resource or provider class, which is computed once per class and held in a lock-free
+ * {@link ClassValue} registry. An {@link InjectionPlan} holds the public constructors of the class in the order in which they are to be
+ * tried, the injectable fields of the class, each with its annotations and a prebuilt {@link MethodHandle} setter, and the
+ * {@link MethodHandle} of the {@link PostConstruct} method of the class, so that instantiating the class per request involves no
+ * reflection lookups.
+ */
+final class InjectionPlan {
+  private static final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType postConstructType = MethodType.methodType(void.class, Object.class);
+  private static final InjectableField[] EMPTY_FIELDS = {};
+  private static final Comparator<Constructor<?>> parameterCountComparator = Comparator.comparingInt((final Constructor<?> c) -> -c.getParameterCount());
+
+  private static final ClassValue<InjectionPlan> plans = new ClassValue<InjectionPlan>() {
+    @Override
+    protected InjectionPlan computeValue(final Class<?> type) {
+      return new InjectionPlan(type);
+    }
+  };
+
+  private static final ConcurrentHashMap<List<Object>,Integer> keyToSlot = new ConcurrentHashMap<>();
+  private static final AtomicInteger slotCount = new AtomicInteger();
+
+  /**
+   * Returns the slot of the injection point with the specified annotations, raw type and generic type, which is the index of its value
+   * in the per-request cache of injected values. Injection points with equal annotations and types share a slot, and thus a cached
+   * value. The slot of an injection point is meant to be obtained once, when its metadata is built.
+   *
+   * @param annotations The annotations of the injection point.
+   * @param rawType The class of the injection point.
+   * @param genericType The generic type of the injection point.
+   * @return The slot of the injection point with the specified annotations, raw type and generic type.
+   */
+  static int getSlot(final Annotation[] annotations, final Class<?> rawType, final Type genericType) {
+    final Object[] key = new Object[annotations.length + 2];
+    int i = 0;
+    while (i < annotations.length)
+      key[i] = annotations[i++];
+
+    key[i] = rawType;
+    key[++i] = genericType;
+    return keyToSlot.computeIfAbsent(Arrays.asList(key), k -> slotCount.getAndIncrement());
+  }
+
+  /**
+   * Returns the number of slots that have been assigned by {@link #getSlot(Annotation[],Class,Type)}.
+   *
+   * @return The number of slots that have been assigned by {@link #getSlot(Annotation[],Class,Type)}.
+   */
+  static int getSlotCount() {
+    return slotCount.get();
+  }
+
+  /**
+   * Returns the {@link InjectionPlan} of the specified class.
+   *
+   * @param clazz The class.
+   * @return The {@link InjectionPlan} of the specified class.
+   */
+  static InjectionPlan get(final Class<?> clazz) {
+    return plans.get(clazz);
+  }
+
+  /**
+   * An injectable field, i.e. a non-static and non-final field, of a class.
+   */
+  static final class InjectableField {
+    final Field field;
+    final Annotation[] annotations;
+    final Class<?> rawType;
+    final Type genericType;
+    final int slot;
+    private final MethodHandle setter;
+
+    private InjectableField(final Field field) {
+      this.field = field;
+      this.annotations = Classes.getAnnotations(field);
+      this.rawType = field.getType();
+      this.genericType = field.getGenericType();
+      this.slot = getSlot(annotations, rawType, genericType);
+      MethodHandle setter;
+      try {
+        field.setAccessible(true);
+        setter = MethodHandles.lookup().unreflectSetter(field).asType(setterType);
+      }
+      catch (final IllegalAccessException | RuntimeException e) {
+        // Fall back to Field.set(Object,Object), which reports the failure if the field is ever injected
+        setter = null;
+      }
+
+      this.setter = setter;
+    }
+
+    /**
+     * Sets the value of this field on the specified instance.
+     *
+     * @param instance The instance.
+     * @param value The value.
+     * @throws IllegalAccessException If this field is inaccessible.
+     */
+    void set(final Object instance, final Object value) throws IllegalAccessException {
+      if (setter == null) {
+        field.set(instance, value);
+        return;
+      }
+
+      try {
+        setter.invokeExact(instance, value);
+      }
+      catch (final RuntimeException | Error e) {
+        throw e;
+      }
+      catch (final Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  /**
+   * A public constructor of a class, with its parameter metadata.
+   */
+  static final class InjectableConstructor {
+    final Constructor<?> constructor;
+    final Parameter[] parameters;
+    final Annotation[][] parameterAnnotations;
+    final Class<?>[] parameterTypes;
+    final Type[] genericParameterTypes;
+    final int[] parameterSlots;
+
+    private InjectableConstructor(final Constructor<?> constructor) {
+      this.constructor = constructor;
+      this.parameters = constructor.getParameters();
+      this.parameterAnnotations = constructor.getParameterAnnotations();
+      final int length = parameters.length;
+      this.parameterTypes = new Class<?>[length];
+      this.genericParameterTypes = new Type[length];
+      this.parameterSlots = new int[length];
+      for (int i = 0; i < length; ++i) { // [A]
+        final Parameter parameter = parameters[i];
+        parameterTypes[i] = parameter.getType();
+        genericParameterTypes[i] = parameter.getParameterizedType();
+        parameterSlots[i] = getSlot(parameterAnnotations[i], parameterTypes[i], genericParameterTypes[i]);
+      }
+    }
+  }
+
+  final InjectableConstructor[] constructors;
+  final InjectableField[] fields;
+  private final MethodHandle postConstruct;
+  private final String postConstructError;
+
+  private InjectionPlan(final Class<?> clazz) {
+    // Ordered by descending number of parameters, so that the constructor with most args is tried first [JAX-RS 2.1 3.1.2]
+    final Constructor<?>[] publicConstructors = clazz.getConstructors();
+    Arrays.sort(publicConstructors, parameterCountComparator);
+    this.constructors = new InjectableConstructor[publicConstructors.length];
+    for (int i = 0, i$ = publicConstructors.length; i < i$; ++i) // [A]
+      this.constructors[i] = new InjectableConstructor(publicConstructors[i]);
+
+    final Field[] declaredFields = Classes.getDeclaredFieldsDeep(clazz, Component::isFieldInjectable);
+    final int length = declaredFields.length;
+    if (length == 0) {
+      this.fields = EMPTY_FIELDS;
+    }
+    else {
+      this.fields = new InjectableField[length];
+      for (int i = 0; i < length; ++i) // [A]
+        this.fields[i] = new InjectableField(declaredFields[i]);
+    }
+
+    final Method[] methods = Classes.getDeclaredMethodsWithAnnotation(clazz, PostConstruct.class);
+    if (methods.length == 0) {
+      this.postConstruct = null;
+      this.postConstructError = null;
+    }
+    else if (methods.length > 1) {
+      this.postConstruct = null;
+      this.postConstructError = "@PostConstruct annotation specified on multiple methods";
+    }
+    else if (methods[0].getParameterCount() > 0) {
+      this.postConstruct = null;
+      this.postConstructError = "@PostConstruct method must have no parameters";
+    }
+    else {
+      final Method method = methods[0];
+      method.setAccessible(true);
+      try {
+        final MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+        this.postConstruct = (Modifier.isStatic(method.getModifiers()) ? MethodHandles.dropArguments(methodHandle, 0, Object.class) : methodHandle).asType(postConstructType);
+      }
+      catch (final IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+
+      this.postConstructError = null;
+    }
+  }
+
+  /**
+   * Invokes the {@link PostConstruct} method of the class on the specified instance, if the class has one.
+   *
+   * @param instance The instance.
+   * @throws InstantiationException If the class has more than one {@link PostConstruct} method, if the {@link PostConstruct} method has
+   *           parameters, or if the {@link PostConstruct} method has thrown an exception.
+   */
+  void postConstruct(final Object instance) throws InstantiationException {
+    if (postConstructError != null)
+      throw new InstantiationException(postConstructError);
+
+    if (postConstruct == null)
+      return;
+
+    try {
+      postConstruct.invokeExact(instance);
+    }
+    catch (final Throwable t) {
+      final InstantiationException ie = new InstantiationException();
+      ie.initCause(t);
+      throw ie;
+    }
+  }
+}
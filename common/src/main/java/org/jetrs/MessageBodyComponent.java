@@ -25,10 +25,23 @@ import javax.ws.rs.core.MediaType;
 
 abstract class MessageBodyComponent<T> extends TypeComponent<T> {
   private final ServerMediaType[] serverMediaTypes;
+  final boolean isTypeDeterministic;
 
   MessageBodyComponent(final Class<T> clazz, final T singleton, final boolean isDefaultProvider, final Map<Class<?>,Integer> contracts, final int priority, final Class<?> interfaceType, final ServerMediaType[] serverMediaTypes) {
     super(clazz, singleton, isDefaultProvider, contracts, priority, getGenericInterfaceFirstTypeArgument(clazz, interfaceType, Object.class));
     this.serverMediaTypes = serverMediaTypes;
+    this.isTypeDeterministic = AnnotationUtil.isAnnotationPresent(clazz, TypeDeterministic.class);
+  }
+
+  /**
+   * Returns whether the specified {@link MediaType} is compatible with the {@link MediaType}s supported by this component, which
+   * conservatively is {@code true} if {@code mediaType} is null.
+   *
+   * @param mediaType The {@link MediaType}.
+   * @return Whether the specified {@link MediaType} is compatible with the {@link MediaType}s supported by this component.
+   */
+  final boolean isCompatible(final MediaType mediaType) {
+    return mediaType == null || MediaTypes.getCompatible(serverMediaTypes, mediaType, null).length > 0;
   }
 
   /**
@@ -33,6 +33,7 @@ final class MessageBodyReaderComponent extends MessageBodyComponent<MessageBodyR
       return components;
 
     components.add(new MessageBodyReaderComponent(clazz, instance, isDefaultProvider, contracts, priority));
+    components.invalidateCache();
     return components;
   }
 
@@ -33,6 +33,7 @@ final class MessageBodyWriterComponent extends MessageBodyComponent<MessageBodyW
       return components;
 
     components.add(new MessageBodyWriterComponent(clazz, instance, isDefaultProvider, contracts, priority));
+    components.invalidateCache();
     return components;
   }
 
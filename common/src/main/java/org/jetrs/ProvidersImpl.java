@@ -19,7 +19,11 @@ package org.jetrs;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.InternalServerErrorException;
 import javax.ws.rs.core.MediaType;
@@ -32,24 +36,130 @@ import javax.ws.rs.ext.Providers;
 import org.libj.util.CollectionUtil;
 
 final class ProvidersImpl implements Providers {
+  /**
+   * The maximum number of {@link Selection}s cached in a {@link ComponentSet} of {@link MessageBodyComponent}s. A cache that is full is
+   * cleared before its next entry is added, so that it continues to reflect the entities of recent requests.
+   */
+  static final int MAX_SELECTION_CACHE_SIZE = 1024;
+
+  /**
+   * The maximum number of exception classes for which the resolved {@link ExceptionMapper} components are cached in a
+   * {@link ComponentSet} of {@link ExceptionMapper} components. A cache that is full is cleared before its next entry is added.
+   */
+  static final int MAX_EXCEPTION_MAPPER_CACHE_SIZE = 256;
+  @SuppressWarnings("rawtypes")
+  private static final TypeComponent[] NO_EXCEPTION_MAPPERS = {};
+
+  /**
+   * The key of a selection of a {@link MessageBodyComponent}, which compares the annotations by content, as the same annotations may
+   * be provided in a new array for each call (i.e. as concatenated for each request, or as specified to
+   * {@link javax.ws.rs.core.Response#readEntity(Class,Annotation[])}).
+   */
+  private static final class SelectionKey {
+    private final Class<?> type;
+    private final Type genericType;
+    private final Annotation[] annotations;
+    private final MediaType mediaType;
+    private final int hashCode;
+
+    private SelectionKey(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+      this.type = type;
+      this.genericType = genericType;
+      this.annotations = annotations;
+      this.mediaType = mediaType;
+      this.hashCode = ((31 * type.hashCode() + Objects.hashCode(genericType)) * 31 + Arrays.hashCode(annotations)) * 31 + Objects.hashCode(mediaType);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof SelectionKey))
+        return false;
+
+      final SelectionKey that = (SelectionKey)obj;
+      return type == that.type && Objects.equals(genericType, that.genericType) && Objects.equals(mediaType, that.mediaType) && (annotations == that.annotations || Arrays.equals(annotations, that.annotations));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * A selected {@link MessageBodyComponent} and its negotiated {@link MediaType}, or {@link #NO_SELECTION} if no
+   * {@link MessageBodyComponent} is selected.
+   */
+  static final class Selection {
+    final MessageBodyComponent<?> component;
+    final MediaType mediaType;
+
+    private Selection(final MessageBodyComponent<?> component, final MediaType mediaType) {
+      this.component = component;
+      this.mediaType = mediaType;
+    }
+  }
+
+  static final Selection NO_SELECTION = new Selection(null, null);
+
   private final RequestContext<?,?> requestContext;
 
   ProvidersImpl(final RequestContext<?,?> requestContext) {
     this.requestContext = requestContext;
   }
 
+  /**
+   * Returns the {@link Selection} of the first {@link MessageBodyComponent} in {@code factories} that supports the entity of the
+   * given parameters. The {@link Selection} is cached in {@code factories} if the decision of every {@link MessageBodyComponent}
+   * that was consulted is {@linkplain TypeDeterministic determined by its arguments alone}. A {@link MessageBodyComponent} that is not
+   * {@link TypeDeterministic} is only consulted, and thus only prevents caching, if its {@link MediaType}s are compatible.
+   */
+  @SuppressWarnings("unchecked")
+  Selection select(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final ComponentSet<? extends MessageBodyComponent<?>> factories) throws IOException {
+    ConcurrentHashMap<SelectionKey,Selection> cache = (ConcurrentHashMap<SelectionKey,Selection>)factories.getCache();
+    if (cache == null)
+      factories.setCache(cache = new ConcurrentHashMap<>());
+
+    final SelectionKey key = new SelectionKey(type, genericType, annotations, mediaType);
+    Selection selection = cache.get(key);
+    if (selection != null)
+      return selection;
+
+    boolean cacheable = true;
+    selection = NO_SELECTION;
+    for (int i = 0, i$ = factories.size(); i < i$; ++i) { // [RA]
+      final MessageBodyComponent<?> factory = factories.get(i);
+      final MediaType[] compatibleMediaTypes = factory.getCompatibleMediaType(requestContext, type, genericType, annotations, mediaType);
+      if (compatibleMediaTypes.length > 0) {
+        selection = new Selection(factory, compatibleMediaTypes[0]);
+        cacheable &= factory.isTypeDeterministic;
+        break;
+      }
+
+      if (!factory.isTypeDeterministic && factory.isCompatible(mediaType))
+        cacheable = false;
+    }
+
+    if (cacheable) {
+      if (cache.size() >= MAX_SELECTION_CACHE_SIZE)
+        cache.clear();
+
+      cache.putIfAbsent(key, selection);
+    }
+
+    return selection;
+  }
+
   private <T> Object getProvider(final Class<T> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final ComponentSet<? extends MessageBodyComponent<?>> factories, final boolean asHolder) {
     try {
-      for (int i = 0, i$ = factories.size(); i < i$; ++i) { // [RA]
-        final MessageBodyComponent<?> factory = factories.get(i);
-        final MediaType[] compatibleMediaTypes = factory.getCompatibleMediaType(requestContext, type, genericType, annotations, mediaType);
-        if (compatibleMediaTypes.length > 0) {
-          final Object provider = factory.getSingletonOrFromRequestContext(requestContext);
-          return asHolder ? new MessageBodyProviderHolder<>(provider, compatibleMediaTypes[0]) : provider;
-        }
-      }
+      final Selection selection = select(type, genericType, annotations, mediaType, factories);
+      if (selection == NO_SELECTION)
+        return null;
 
-      return null;
+      final Object provider = selection.component.getSingletonOrFromRequestContext(requestContext);
+      return asHolder ? new MessageBodyProviderHolder<>(provider, selection.mediaType) : provider;
     }
     catch (final IOException e) {
       throw new InternalServerErrorException(e);
@@ -103,24 +213,78 @@ final class ProvidersImpl implements Providers {
     return null;
   }
 
-  @Override
+  /**
+   * Returns the {@link ExceptionMapper} components for the specified exception class and each of its superclasses, in order, where
+   * the element at index {@code i} is the first component whose type is assignable from the {@code i}-th class of the hierarchy, or
+   * {@code null} if there is none. Trailing {@code null} elements are omitted. The result is resolved once per exception class, and
+   * cached in the {@link ComponentSet} of {@link ExceptionMapper} components.
+   *
+   * @param type The exception class.
+   * @return The {@link ExceptionMapper} components for the specified exception class and each of its superclasses.
+   */
+  TypeComponent<ExceptionMapper<?>>[] getExceptionMapperComponents(final Class<?> type) {
+    return getExceptionMapperComponents(requestContext.getExceptionMapperComponents(), type);
+  }
+
   @SuppressWarnings("unchecked")
-  public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(final Class<T> type) {
-    try {
-      final ComponentSet<TypeComponent<ExceptionMapper<?>>> components = requestContext.getExceptionMapperComponents();
+  static TypeComponent<ExceptionMapper<?>>[] getExceptionMapperComponents(final ComponentSet<TypeComponent<ExceptionMapper<?>>> components, final Class<?> type) {
+    ConcurrentHashMap<Class<?>,TypeComponent<ExceptionMapper<?>>[]> cache = (ConcurrentHashMap<Class<?>,TypeComponent<ExceptionMapper<?>>[]>)components.getCache();
+    if (cache == null)
+      components.setCache(cache = new ConcurrentHashMap<>());
+
+    TypeComponent<ExceptionMapper<?>>[] resolved = cache.get(type);
+    if (resolved != null)
+      return resolved;
+
+    final ArrayList<TypeComponent<ExceptionMapper<?>>> levels = new ArrayList<>();
+    int length = 0;
+    for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+      TypeComponent<ExceptionMapper<?>> resolvedComponent = null;
       for (int i = 0, i$ = components.size(); i < i$; ++i) { // [RA]
-        final TypeComponent<ExceptionMapper<?>> factory = components.get(i);
-        if (factory.getType().isAssignableFrom(type))
-          return (ExceptionMapper<T>)factory.getSingletonOrFromRequestContext(requestContext);
+        final TypeComponent<ExceptionMapper<?>> component = components.get(i);
+        if (component.getType().isAssignableFrom(cls)) {
+          resolvedComponent = component;
+          break;
+        }
       }
 
-      return null;
+      levels.add(resolvedComponent);
+      if (resolvedComponent != null)
+        length = levels.size();
+    }
+
+    resolved = length == 0 ? NO_EXCEPTION_MAPPERS : levels.subList(0, length).toArray(new TypeComponent[length]);
+    if (cache.size() >= MAX_EXCEPTION_MAPPER_CACHE_SIZE)
+      cache.clear();
+
+    cache.putIfAbsent(type, resolved);
+
+    return resolved;
+  }
+
+  /**
+   * Returns the singleton of the specified {@link Component}, or its instance for the current request.
+   *
+   * @param <T> The type parameter of the {@link Component}.
+   * @param component The {@link Component}.
+   * @return The singleton of the specified {@link Component}, or its instance for the current request.
+   */
+  <T> T getInstance(final Component<T> component) {
+    try {
+      return component.getSingletonOrFromRequestContext(requestContext);
     }
     catch (final IOException e) {
       throw new InternalServerErrorException(e);
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(final Class<T> type) {
+    final TypeComponent<ExceptionMapper<?>>[] components = getExceptionMapperComponents(type);
+    return components.length == 0 ? null : (ExceptionMapper<T>)getInstance(components[0]);
+  }
+
   @Override
   public <T> ContextResolver<T> getContextResolver(final Class<T> contextType, final MediaType mediaType) {
     // TODO: Implement this.
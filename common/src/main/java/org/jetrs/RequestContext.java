@@ -20,20 +20,15 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import javax.annotation.PostConstruct;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.MediaType;
@@ -46,9 +41,8 @@ import javax.ws.rs.ext.Providers;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.WriterInterceptor;
 
-import org.libj.lang.Classes;
-import org.libj.util.function.Throwing;
-import org.libj.util.function.ThrowingPredicate;
+import org.jetrs.InjectionPlan.InjectableConstructor;
+import org.jetrs.InjectionPlan.InjectableField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,21 +54,6 @@ import org.slf4j.LoggerFactory;
  */
 abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorContextImpl<P> {
   private static final Logger logger = LoggerFactory.getLogger(RequestContext.class);
-  private static final Comparator<Constructor<?>> parameterCountComparator = Comparator.comparingInt((final Constructor<?> c) -> -c.getParameterCount());
-  @SuppressWarnings("rawtypes")
-  private static final HashMap<Class<?>,Constructor[]> classToConstructors = new HashMap<>();
-
-  // Gets the constructor with most args [JAX-RS 2.1 3.1.2]
-  @SuppressWarnings("unchecked")
-  private static <T> Constructor<T>[] getConstructors(final Class<T> clazz) {
-    Constructor<T>[] constructors = classToConstructors.get(clazz);
-    if (constructors == null)
-      classToConstructors.put(clazz, constructors = (Constructor<T>[])clazz.getConstructors());
-
-    Arrays.sort(constructors, parameterCountComparator);
-    return constructors;
-  }
-
   final R runtimeContext;
   private Components components;
   private Request request;
@@ -174,37 +153,40 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
     return (T)CONTEXT_NOT_FOUND;
   }
 
-  private static List<Object> makeCacheKey(final Annotation[] annotations, final Class<?> rawType, final Type genericType) {
-    final Object[] key = new Object[annotations.length + 2];
-    int i = 0;
-    while (i < annotations.length)
-      key[i] = annotations[i++];
-
-    key[i] = rawType;
-    key[++i] = genericType;
-    return Arrays.asList(key);
-  }
-
-  private Map<List<Object>,Object> injectedValueCache;
+  private Object[] injectedValueCache;
 
+  /**
+   * Returns the injectable value of the injection point with the provided slot, which is cached for the duration of the request.
+   *
+   * @param <T> The type parameter of the injectable value.
+   * @param slot The slot of the injection point, as per {@link InjectionPlan#getSlot(Annotation[],Class,Type)}.
+   * @param element The {@link AnnotatedElement} in which to find the injectable value.
+   * @param parameterIndex The index of the parameter for which to find the injectable value.
+   * @param annotations The annotations provided on the {@code element}.
+   * @param rawType The class of the injectable value to return.
+   * @param genericType The generic type of the injectable value to return.
+   * @return The injectable value of the injection point with the provided slot.
+   * @throws IOException If an I/O error has occurred.
+   */
   @SuppressWarnings("unchecked")
-  <T> T findInjectableValueFromCache(final AnnotatedElement element, final int parameterIndex, final Annotation[] annotations, final Class<T> rawType, final Type genericType) throws IOException {
+  <T> T findInjectableValueFromCache(final int slot, final AnnotatedElement element, final int parameterIndex, final Annotation[] annotations, final Class<T> rawType, final Type genericType) throws IOException {
+    Object[] injectedValueCache = this.injectedValueCache;
     if (injectedValueCache == null) {
-      injectedValueCache = new HashMap<>();
+      this.injectedValueCache = injectedValueCache = new Object[Math.max(InjectionPlan.getSlotCount(), slot + 1)];
+    }
+    else if (slot >= injectedValueCache.length) {
+      this.injectedValueCache = injectedValueCache = Arrays.copyOf(injectedValueCache, Math.max(InjectionPlan.getSlotCount(), slot + 1));
     }
     else {
-      final List<Object> key = makeCacheKey(annotations, rawType, genericType);
-      final Object instance = injectedValueCache.get(key);
+      final Object instance = injectedValueCache[slot];
       if (instance != null)
         return (T)instance;
     }
 
     final T instance = findInjectableValue(element, parameterIndex, annotations, rawType, genericType);
-    if (instance == null)
-      return null;
+    if (instance != null)
+      injectedValueCache[slot] = instance;
 
-    final List<Object> key = makeCacheKey(annotations, rawType, genericType);
-    injectedValueCache.put(key, instance);
     return instance;
   }
 
@@ -227,13 +209,25 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
   final <T> T newResourceInstance(final Class<T> clazz) throws IllegalAccessException, InstantiationException, IOException, InvocationTargetException {
     final T instance = newInstanceSansFields(clazz, true);
     if (instance != null) {
-      injectFields(instance);
-      postConstruct(instance);
+      final InjectionPlan injectionPlan = InjectionPlan.get(instance.getClass());
+      injectAllFields(instance, injectionPlan.fields);
+      injectionPlan.postConstruct(instance);
     }
 
     return instance;
   }
 
+  /**
+   * Injects the fields of the specified resource instance, which was previously created with {@link #newResourceInstance(Class)}.
+   *
+   * @param instance The resource instance.
+   * @throws IllegalAccessException If an illegal access error has occurred.
+   * @throws IOException If an I/O error has occurred.
+   */
+  final void injectResourceFields(final Object instance) throws IllegalAccessException, IOException {
+    injectAllFields(instance, InjectionPlan.get(instance.getClass()).fields);
+  }
+
   private static final Object[] NULL = {};
   private Map<Class<?>,Object[]> contextInsances;
 
@@ -249,7 +243,7 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
           return null;
 
         final Object instance = instanceUninjectedFields[0];
-        final Field[] uninjectedFields = (Field[])instanceUninjectedFields[1];
+        final InjectableField[] uninjectedFields = (InjectableField[])instanceUninjectedFields[1];
         if (uninjectedFields != null)
           instanceUninjectedFields[1] = injectFields(instance, uninjectedFields);
 
@@ -259,10 +253,10 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
 
     final T instance = newInstanceSansFields(clazz, false);
     if (instance != null) {
-      final Field[] fields = Classes.getDeclaredFieldsDeep(clazz, Component::isFieldInjectable);
-      final Field[] uninjectedFields = injectFields(instance, fields);
+      final InjectionPlan injectionPlan = InjectionPlan.get(clazz);
+      final InjectableField[] uninjectedFields = injectFields(instance, injectionPlan.fields);
       contextInsances.put(clazz, new Object[] {instance, uninjectedFields});
-      postConstruct(instance);
+      injectionPlan.postConstruct(instance);
     }
     else {
       contextInsances.put(clazz, NULL);
@@ -271,16 +265,18 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
     return instance;
   }
 
+  @SuppressWarnings("unchecked")
   private <T> T newInstanceSansFields(final Class<T> clazz, final boolean isResource) throws IllegalAccessException, InstantiationException, InvocationTargetException, IOException {
-    final Constructor<T>[] constructors = getConstructors(clazz);
+    final InjectableConstructor[] constructors = InjectionPlan.get(clazz).constructors;
 
     OUT:
-    for (final Constructor<T> constructor : constructors) { // [A]
-      if (constructor.getParameterCount() == 0)
-        return constructor.newInstance();
+    for (final InjectableConstructor injectableConstructor : constructors) { // [A]
+      final Constructor<?> constructor = injectableConstructor.constructor;
+      final Parameter[] parameters = injectableConstructor.parameters;
+      if (parameters.length == 0)
+        return (T)constructor.newInstance();
 
-      final Parameter[] parameters = constructor.getParameters();
-      final Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+      final Annotation[][] parameterAnnotations = injectableConstructor.parameterAnnotations;
       final Object[] arguments = new Object[parameters.length];
       for (int i = 0, i$ = parameters.length; i < i$; ++i) { // [A]
         final Parameter parameter = parameters[i];
@@ -291,79 +287,49 @@ abstract class RequestContext<R extends RuntimeContext,P> extends InterceptorCon
           continue OUT;
         }
 
-        arguments[i] = findInjectableValueFromCache(parameter, -1, annotations, parameter.getType(), parameter.getParameterizedType());
+        arguments[i] = findInjectableValueFromCache(injectableConstructor.parameterSlots[i], parameter, -1, annotations, injectableConstructor.parameterTypes[i], injectableConstructor.genericParameterTypes[i]);
       }
 
-      return constructor.newInstance(arguments);
+      return (T)constructor.newInstance(arguments);
     }
 
     throw new InstantiationException("No suitable constructor found on provider " + clazz.getName());
   }
 
-  private static void postConstruct(final Object instance) throws InstantiationException {
-    final Method[] methods = Classes.getDeclaredMethodsWithAnnotation(instance.getClass(), PostConstruct.class);
-    if (methods.length == 0)
-      return;
-
-    if (methods.length > 1)
-      throw new InstantiationException("@PostConstruct annotation specified on multiple methods");
-
-    final Method method = methods[0];
-    if (method.getParameterCount() > 0)
-      throw new InstantiationException("@PostConstruct method must have no parameters");
-
-    try {
-      method.setAccessible(true);
-      method.invoke(instance);
-    }
-    catch (final Exception e) {
-      final InstantiationException ie = new InstantiationException();
-      ie.initCause(e.getCause());
-      throw ie;
-    }
-  }
-
-  private Field[] injectFields(final Object instance, final Field[] fields) throws IllegalAccessException, IOException {
+  private InjectableField[] injectFields(final Object instance, final InjectableField[] fields) throws IllegalAccessException, IOException {
     return injectFields(instance, fields, fields.length, 0, 0);
   }
 
-  private Field[] injectFields(final Object instance, final Field[] fields, final int length, final int index, final int depth) throws IllegalAccessException, IOException {
+  private InjectableField[] injectFields(final Object instance, final InjectableField[] fields, final int length, final int index, final int depth) throws IllegalAccessException, IOException {
     if (index == length)
-      return depth == 0 ? null : new Field[depth];
+      return depth == 0 ? null : new InjectableField[depth];
 
-    final Field field = fields[index];
-    final Object value = findInjectableValueFromCache(field, -1, Classes.getAnnotations(field), field.getType(), field.getGenericType());
+    final InjectableField field = fields[index];
+    final Object value = findInjectableValueFromCache(field.slot, field.field, -1, field.annotations, field.rawType, field.genericType);
     if (value == null) {
-      final Field[] uninjectedFields = injectFields(instance, fields, length, index + 1, depth + 1);
+      final InjectableField[] uninjectedFields = injectFields(instance, fields, length, index + 1, depth + 1);
       uninjectedFields[depth] = field;
       return uninjectedFields;
     }
 
-    field.setAccessible(true);
     field.set(instance, value);
     return injectFields(instance, fields, length, index + 1, depth);
   }
 
   /**
-   * Duplicate version of {@link #injectFields(Object,Field[])} that does not return an array.
+   * Duplicate version of {@link #injectFields(Object,InjectableField[])} that does not return an array.
    *
    * @param instance The instance of which its fields should be injected.
+   * @param fields The {@link InjectableField}s to inject.
    * @throws IllegalAccessException If an illegal access error has occurred.
    * @throws IOException If an I/O error has occurred.
    */
-  private void injectFields(final Object instance) throws IllegalAccessException, IOException {
-    Classes.getDeclaredFieldsDeep(instance.getClass(), Throwing.rethrow((ThrowingPredicate<Field,?>)(final Field field) -> {
-      final int modifiers = field.getModifiers();
-      if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
-        final Object value = findInjectableValueFromCache(field, -1, Classes.getAnnotations(field), field.getType(), field.getGenericType());
-        if (value != null) {
-          field.setAccessible(true);
-          field.set(instance, value);
-        }
-      }
-
-      return false;
-    }));
+  private void injectAllFields(final Object instance, final InjectableField[] fields) throws IllegalAccessException, IOException {
+    for (final InjectableField field : fields) { // [A]
+      final Object value = findInjectableValueFromCache(field.slot, field.field, -1, field.annotations, field.rawType, field.genericType);
+      if (value != null)
+        field.set(instance, value);
+    }
   }
 
   @Override
@@ -0,0 +1,78 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Test;
+
+public class InjectionPlanTest {
+  public static class Resource1 {
+    @Context
+    UriInfo uriInfo;
+    @QueryParam("q")
+    List<String> list;
+    @QueryParam("q")
+    Set<String> set;
+    @QueryParam("r")
+    List<String> other;
+  }
+
+  public static class Resource2 {
+    @Context
+    UriInfo uriInfo;
+    @QueryParam("q")
+    List<String> list;
+  }
+
+  private static int getSlot(final Class<?> cls, final String name) throws NoSuchFieldException {
+    final Field field = cls.getDeclaredField(name);
+    return InjectionPlan.getSlot(field.getAnnotations(), field.getType(), field.getGenericType());
+  }
+
+  @Test
+  public void testSharedSlot() throws NoSuchFieldException {
+    assertEquals(getSlot(Resource1.class, "uriInfo"), getSlot(Resource2.class, "uriInfo"));
+    assertEquals(getSlot(Resource1.class, "list"), getSlot(Resource2.class, "list"));
+    assertEquals(getSlot(Resource1.class, "list"), getSlot(Resource1.class, "list"));
+  }
+
+  @Test
+  public void testDistinctSlot() throws NoSuchFieldException {
+    final int list = getSlot(Resource1.class, "list");
+    assertNotEquals(list, getSlot(Resource1.class, "set"));
+    assertNotEquals(list, getSlot(Resource1.class, "other"));
+    assertNotEquals(list, getSlot(Resource1.class, "uriInfo"));
+  }
+
+  @Test
+  public void testSlotCount() throws NoSuchFieldException {
+    final int slot = getSlot(Resource1.class, "other");
+    assertTrue(slot < InjectionPlan.getSlotCount());
+    final int count = InjectionPlan.getSlotCount();
+    getSlot(Resource2.class, "list");
+    assertEquals(count, InjectionPlan.getSlotCount());
+  }
+}
\ No newline at end of file
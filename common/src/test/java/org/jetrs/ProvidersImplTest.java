@@ -0,0 +1,229 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.junit.Test;
+
+public class ProvidersImplTest {
+  public abstract static class CountingWriter implements MessageBodyWriter<String> {
+    final AtomicInteger checks = new AtomicInteger();
+    private final boolean isWriteable;
+
+    CountingWriter(final boolean isWriteable) {
+      this.isWriteable = isWriteable;
+    }
+
+    @Override
+    public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+      checks.incrementAndGet();
+      return isWriteable;
+    }
+
+    @Override
+    public void writeTo(final String t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String,Object> httpHeaders, final OutputStream entityStream) {
+    }
+  }
+
+  @Singleton
+  @TypeDeterministic
+  public static class StringWriter extends CountingWriter {
+    public StringWriter() {
+      super(true);
+    }
+  }
+
+  @Singleton
+  @TypeDeterministic
+  public static class OtherStringWriter extends CountingWriter {
+    public OtherStringWriter() {
+      super(true);
+    }
+  }
+
+  @Singleton
+  public static class NonDeterministicWriter extends CountingWriter {
+    public NonDeterministicWriter() {
+      super(false);
+    }
+  }
+
+  @Singleton
+  public static class RuntimeExceptionMapper implements ExceptionMapper<RuntimeException> {
+    @Override
+    public Response toResponse(final RuntimeException exception) {
+      return null;
+    }
+  }
+
+  @Singleton
+  public static class IllegalArgumentExceptionMapper implements ExceptionMapper<IllegalArgumentException> {
+    @Override
+    public Response toResponse(final IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  public void resource(@QueryParam("q") final String q) {
+  }
+
+  private static final ProvidersImpl providers = new ProvidersImpl(null);
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> register(final ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components, final MessageBodyWriter<?> writer, final int priority) {
+    return MessageBodyWriterComponent.register(components, (Class)writer.getClass(), writer, false, null, priority);
+  }
+
+  private static Annotation[] getAnnotations() throws NoSuchMethodException {
+    // Returns a new array for each call
+    return ProvidersImplTest.class.getMethod("resource", String.class).getParameterAnnotations()[0];
+  }
+
+  private static Object select(final ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components) throws IOException, NoSuchMethodException {
+    final ProvidersImpl.Selection selection = providers.select(String.class, String.class, getAnnotations(), MediaType.TEXT_PLAIN_TYPE, components);
+    assertNotSame(ProvidersImpl.NO_SELECTION, selection);
+    assertEquals(MediaType.TEXT_PLAIN_TYPE, selection.mediaType);
+    return selection.component.singleton;
+  }
+
+  @Test
+  public void testCachedByAnnotationContent() throws IOException, NoSuchMethodException {
+    final StringWriter writer = new StringWriter();
+    final ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components = register(null, writer, -1);
+    assertNotSame(getAnnotations(), getAnnotations());
+
+    assertSame(writer, select(components));
+    assertSame(writer, select(components));
+    assertEquals(1, writer.checks.get());
+  }
+
+  @Test
+  public void testNotTypeDeterministic() throws IOException, NoSuchMethodException {
+    final StringWriter writer = new StringWriter();
+    final NonDeterministicWriter nonDeterministic = new NonDeterministicWriter();
+    ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components = register(null, writer, -1);
+    components = register(components, nonDeterministic, 0);
+
+    assertSame(writer, select(components));
+    assertSame(writer, select(components));
+    assertEquals(2, nonDeterministic.checks.get());
+    assertEquals(2, writer.checks.get());
+  }
+
+  @Test
+  public void testInvalidatedByRegistration() throws IOException, NoSuchMethodException {
+    final StringWriter writer = new StringWriter();
+    ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components = register(null, writer, -1);
+    assertSame(writer, select(components));
+    assertSame(writer, select(components));
+    assertEquals(1, writer.checks.get());
+
+    final OtherStringWriter other = new OtherStringWriter();
+    components = register(components, other, 0);
+    assertSame(other, select(components));
+    assertSame(other, select(components));
+    assertEquals(1, other.checks.get());
+  }
+
+  @Test
+  public void testSelectionCacheBounded() throws IOException, NoSuchMethodException {
+    final StringWriter writer = new StringWriter();
+    final ComponentSet<MessageBodyComponent<MessageBodyWriter<?>>> components = register(null, writer, -1);
+    for (int i = 0; i < ProvidersImpl.MAX_SELECTION_CACHE_SIZE * 2; ++i) { // [N]
+      final MediaType mediaType = new MediaType("text", "plain", Collections.singletonMap("i", String.valueOf(i)));
+      final int checks = writer.checks.get();
+      assertSame(writer, providers.select(String.class, String.class, getAnnotations(), mediaType, components).component.singleton);
+      assertSame(writer, providers.select(String.class, String.class, getAnnotations(), mediaType, components).component.singleton);
+      assertEquals(checks + 1, writer.checks.get()); // Still caching once full
+      assertTrue(((Map<?,?>)components.getCache()).size() <= ProvidersImpl.MAX_SELECTION_CACHE_SIZE);
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static ComponentSet<TypeComponent<ExceptionMapper<?>>> register(final ComponentSet<TypeComponent<ExceptionMapper<?>>> components, final ExceptionMapper<?> mapper) {
+    return ExceptionMapperComponent.register(components, (Class)mapper.getClass(), mapper, false, null, -1);
+  }
+
+  @Test
+  public void testExceptionMapperHierarchy() {
+    final RuntimeExceptionMapper mapper = new RuntimeExceptionMapper();
+    final ComponentSet<TypeComponent<ExceptionMapper<?>>> components = register(null, mapper);
+
+    // NumberFormatException, IllegalArgumentException and RuntimeException, without trailing Exception and Throwable
+    final TypeComponent<ExceptionMapper<?>>[] resolved = ProvidersImpl.getExceptionMapperComponents(components, NumberFormatException.class);
+    assertEquals(3, resolved.length);
+    for (final TypeComponent<ExceptionMapper<?>> component : resolved) // [A]
+      assertSame(mapper, component.singleton);
+
+    assertEquals(0, ProvidersImpl.getExceptionMapperComponents(components, IOException.class).length);
+  }
+
+  @Test
+  public void testExceptionMapperCached() {
+    final ComponentSet<TypeComponent<ExceptionMapper<?>>> components = register(null, new RuntimeExceptionMapper());
+    final TypeComponent<ExceptionMapper<?>>[] resolved = ProvidersImpl.getExceptionMapperComponents(components, NumberFormatException.class);
+    assertSame(resolved, ProvidersImpl.getExceptionMapperComponents(components, NumberFormatException.class));
+  }
+
+  @Test
+  public void testExceptionMapperInvalidatedByRegistration() {
+    final RuntimeExceptionMapper mapper = new RuntimeExceptionMapper();
+    ComponentSet<TypeComponent<ExceptionMapper<?>>> components = register(null, mapper);
+    assertSame(mapper, ProvidersImpl.getExceptionMapperComponents(components, NumberFormatException.class)[0].singleton);
+
+    final IllegalArgumentExceptionMapper other = new IllegalArgumentExceptionMapper();
+    components = register(components, other);
+    final TypeComponent<ExceptionMapper<?>>[] resolved = ProvidersImpl.getExceptionMapperComponents(components, NumberFormatException.class);
+    assertEquals(3, resolved.length);
+    assertSame(other, resolved[0].singleton);
+    assertSame(other, resolved[1].singleton);
+    assertSame(mapper, resolved[2].singleton);
+  }
+
+  @Test
+  public void testExceptionMapperCacheBounded() {
+    final ComponentSet<TypeComponent<ExceptionMapper<?>>> components = register(null, new RuntimeExceptionMapper());
+    final Class<?>[] types = {IllegalArgumentException.class, IllegalStateException.class, NumberFormatException.class, UnsupportedOperationException.class};
+    for (int i = 0; i < ProvidersImpl.MAX_EXCEPTION_MAPPER_CACHE_SIZE * 2; ++i) { // [N]
+      // Array classes of exception classes serve as distinct keys, for which no mapper is resolved
+      final Class<?> type = i % 8 == 0 ? types[i / 8 % types.length] : Array.newInstance(types[i % types.length], new int[i / types.length % 128 + 1]).getClass();
+      final TypeComponent<ExceptionMapper<?>>[] resolved = ProvidersImpl.getExceptionMapperComponents(components, type);
+      final Map<?,?> cache = (Map<?,?>)components.getCache();
+      assertTrue(cache.containsKey(type)); // Still caching once full
+      assertTrue(cache.size() <= ProvidersImpl.MAX_EXCEPTION_MAPPER_CACHE_SIZE);
+      assertSame(resolved, ProvidersImpl.getExceptionMapperComponents(components, type));
+    }
+  }
+}
\ No newline at end of file
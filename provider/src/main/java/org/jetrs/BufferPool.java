@@ -0,0 +1,269 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.libj.lang.Systems;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of {@code byte[]} buffers of the outbound message entity, which spares the allocation of a fresh buffer for each message.
+ * Buffers are pooled in power-of-two size classes, starting at {@value #MIN_BUFFER_SIZE} bytes, and are retained in caches that are
+ * local to each thread, so that acquiring and releasing a buffer involves no synchronization. A buffer that is released by a thread
+ * other than the one that acquired it is retained by the releasing thread.
+ * <p>
+ * If leak detection is enabled, each buffer is {@linkplain #track(Object) tracked} by its owner, and an owner that is garbage collected
+ * without having released its buffer is logged with the stack trace of the acquisition of the buffer.
+ *
+ * @see CommonProperties#BUFFER_POOL_THREAD_CACHE_SIZE
+ * @see CommonProperties#BUFFER_POOL_MAX_BUFFER_SIZE
+ * @see CommonProperties#BUFFER_POOL_LEAK_DETECTION
+ */
+public final class BufferPool {
+  private static final Logger logger = LoggerFactory.getLogger(BufferPool.class);
+  private static final int MIN_BUFFER_SHIFT = 9;
+  static final int MIN_BUFFER_SIZE = 1 << MIN_BUFFER_SHIFT;
+
+  private static final BufferPool instance = new BufferPool(Systems.getProperty(CommonProperties.BUFFER_POOL_THREAD_CACHE_SIZE, CommonProperties.BUFFER_POOL_THREAD_CACHE_SIZE_DEFAULT), Systems.getProperty(CommonProperties.BUFFER_POOL_MAX_BUFFER_SIZE, CommonProperties.BUFFER_POOL_MAX_BUFFER_SIZE_DEFAULT), Systems.hasProperty(CommonProperties.BUFFER_POOL_LEAK_DETECTION) || logger.isDebugEnabled());
+
+  /**
+   * Returns the {@link BufferPool} configured by {@link CommonProperties#BUFFER_POOL_THREAD_CACHE_SIZE},
+   * {@link CommonProperties#BUFFER_POOL_MAX_BUFFER_SIZE} and {@link CommonProperties#BUFFER_POOL_LEAK_DETECTION}.
+   *
+   * @return The {@link BufferPool} configured by {@link CommonProperties#BUFFER_POOL_THREAD_CACHE_SIZE},
+   *         {@link CommonProperties#BUFFER_POOL_MAX_BUFFER_SIZE} and {@link CommonProperties#BUFFER_POOL_LEAK_DETECTION}.
+   */
+  public static BufferPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * The tracker of a buffer acquired from a {@link BufferPool}, which reports the buffer as leaked if its owner is garbage collected
+   * before {@link #close()} is called.
+   */
+  final class Leak extends PhantomReference<Object> {
+    private final Throwable trace;
+
+    private Leak(final Object owner) {
+      super(owner, leakQueue);
+      this.trace = new Throwable("Buffer acquired by " + owner.getClass().getName());
+    }
+
+    /**
+     * Stops the tracking of the buffer, which is to be called when the buffer is released.
+     */
+    void close() {
+      if (tracked.remove(this))
+        clear();
+    }
+  }
+
+  private final class ThreadCache {
+    private final byte[][][] buffers = new byte[sizeClasses][threadCacheSize][];
+    private final int[] counts = new int[sizeClasses];
+  }
+
+  private final int threadCacheSize;
+  private final int sizeClasses;
+  private final ThreadLocal<ThreadCache> caches = ThreadLocal.withInitial(ThreadCache::new);
+  private final ReferenceQueue<Object> leakQueue;
+  private final Set<Leak> tracked;
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder allocations = new LongAdder();
+  private final LongAdder releases = new LongAdder();
+  private final LongAdder discards = new LongAdder();
+  private final LongAdder leaks = new LongAdder();
+
+  BufferPool(final int threadCacheSize, final int maxBufferSize, final boolean leakDetection) {
+    this.threadCacheSize = threadCacheSize;
+    this.sizeClasses = threadCacheSize <= 0 || maxBufferSize < MIN_BUFFER_SIZE ? 0 : 32 - Integer.numberOfLeadingZeros(maxBufferSize) - MIN_BUFFER_SHIFT;
+    this.leakQueue = leakDetection ? new ReferenceQueue<>() : null;
+    this.tracked = leakDetection ? ConcurrentHashMap.newKeySet() : null;
+  }
+
+  private static int getSizeClass(final int size) {
+    return size <= MIN_BUFFER_SIZE ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_BUFFER_SHIFT;
+  }
+
+  /**
+   * Returns whether this {@link BufferPool} retains released buffers.
+   *
+   * @return Whether this {@link BufferPool} retains released buffers.
+   */
+  public boolean isEnabled() {
+    return sizeClasses > 0;
+  }
+
+  /**
+   * Returns a buffer of at least the specified size, which is to be {@linkplain #release(byte[]) released} to this {@link BufferPool}
+   * when it is no longer used. The content of the buffer is undefined.
+   *
+   * @param size The minimum size of the buffer.
+   * @return A buffer of at least the specified size.
+   */
+  byte[] acquire(final int size) {
+    acquisitions.increment();
+    final int sizeClass = getSizeClass(size);
+    if (sizeClass >= sizeClasses) {
+      allocations.increment();
+      return new byte[size];
+    }
+
+    final ThreadCache cache = caches.get();
+    final int count = cache.counts[sizeClass];
+    if (count > 0) {
+      final byte[][] buffers = cache.buffers[sizeClass];
+      final byte[] buffer = buffers[count - 1];
+      buffers[count - 1] = null;
+      cache.counts[sizeClass] = count - 1;
+      hits.increment();
+      return buffer;
+    }
+
+    allocations.increment();
+    return new byte[1 << (sizeClass + MIN_BUFFER_SHIFT)];
+  }
+
+  /**
+   * Releases the specified buffer to this {@link BufferPool}. The buffer must not be used after it has been released. A buffer that is
+   * not of a pooled size class, or that does not fit in the cache of the current thread, is left to the garbage collector.
+   *
+   * @param buffer The buffer.
+   */
+  void release(final byte[] buffer) {
+    releases.increment();
+    final int length = buffer.length;
+    if (length >= MIN_BUFFER_SIZE && Integer.bitCount(length) == 1) {
+      final int sizeClass = 31 - Integer.numberOfLeadingZeros(length) - MIN_BUFFER_SHIFT;
+      if (sizeClass < sizeClasses) {
+        final ThreadCache cache = caches.get();
+        final int count = cache.counts[sizeClass];
+        if (count < threadCacheSize) {
+          cache.buffers[sizeClass][count] = buffer;
+          cache.counts[sizeClass] = count + 1;
+          return;
+        }
+      }
+    }
+
+    discards.increment();
+  }
+
+  /**
+   * Returns a {@link Leak} that tracks the buffer acquired by the specified owner, which is to be {@linkplain Leak#close() closed} when
+   * the buffer is released, or {@code null} if leak detection is disabled.
+   *
+   * @param owner The owner of the buffer.
+   * @return A {@link Leak} that tracks the buffer acquired by the specified owner, or {@code null} if leak detection is disabled.
+   */
+  Leak track(final Object owner) {
+    if (tracked == null)
+      return null;
+
+    reportLeaks();
+    final Leak leak = new Leak(owner);
+    tracked.add(leak);
+    return leak;
+  }
+
+  private void reportLeaks() {
+    for (Reference<?> reference; (reference = leakQueue.poll()) != null;) {
+      if (tracked.remove(reference)) {
+        leaks.increment();
+        logger.error("Buffer was not released before its owner was garbage collected", ((Leak)reference).trace);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of buffers that have been acquired from this {@link BufferPool}.
+   *
+   * @return The number of buffers that have been acquired from this {@link BufferPool}.
+   */
+  public long getAcquireCount() {
+    return acquisitions.sum();
+  }
+
+  /**
+   * Returns the number of acquisitions that were served by a retained buffer.
+   *
+   * @return The number of acquisitions that were served by a retained buffer.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of acquisitions that required a buffer to be allocated.
+   *
+   * @return The number of acquisitions that required a buffer to be allocated.
+   */
+  public long getAllocationCount() {
+    return allocations.sum();
+  }
+
+  /**
+   * Returns the ratio of {@linkplain #getHitCount() hits} to all {@linkplain #getAcquireCount() acquisitions}, or {@code 0} if there
+   * have been none.
+   *
+   * @return The ratio of {@linkplain #getHitCount() hits} to all {@linkplain #getAcquireCount() acquisitions}, or {@code 0} if there
+   *         have been none.
+   */
+  public double getHitRate() {
+    final long acquisitions = this.acquisitions.sum();
+    return acquisitions == 0 ? 0 : (double)hits.sum() / acquisitions;
+  }
+
+  /**
+   * Returns the number of buffers that have been released to this {@link BufferPool}.
+   *
+   * @return The number of buffers that have been released to this {@link BufferPool}.
+   */
+  public long getReleaseCount() {
+    return releases.sum();
+  }
+
+  /**
+   * Returns the number of released buffers that were left to the garbage collector, because they were not of a pooled size class, or
+   * because the cache of the releasing thread was full.
+   *
+   * @return The number of released buffers that were left to the garbage collector.
+   */
+  public long getDiscardCount() {
+    return discards.sum();
+  }
+
+  /**
+   * Returns the number of buffers that have been detected as leaked, which is always {@code 0} if leak detection is disabled.
+   *
+   * @return The number of buffers that have been detected as leaked.
+   */
+  public long getLeakCount() {
+    if (tracked != null)
+      reportLeaks();
+
+    return leaks.sum();
+  }
+}
\ No newline at end of file
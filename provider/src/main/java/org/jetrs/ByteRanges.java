@@ -0,0 +1,445 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.activation.DataSource;
+import javax.activation.FileDataSource;
+
+import org.libj.util.SimpleDateFormats;
+
+/**
+ * The byte ranges of an entity that are requested by the {@code Range} header of a request [RFC 7233], and the writer of the
+ * corresponding {@code 206 Partial Content} body. A single range is written as is, and multiple ranges are written as a
+ * {@code multipart/byteranges} body, with a {@code Content-Type} and {@code Content-Range} header for each part.
+ * <p>
+ * Ranges are supported for entities of a length that is known before the entity is written, which are {@link File}, {@code byte[]},
+ * {@link FileDataSource}, and any other {@link DataSource} of which the {@code Content-Length} has been specified.
+ * Overlapping and adjacent ranges are coalesced, and the resulting ranges are written in ascending order, so that the content of a
+ * {@link DataSource} is read in a single pass.
+ */
+public final class ByteRanges {
+  /** The maximum number of ranges, after coalescing, above which the {@code Range} header is ignored. */
+  static final int MAX_RANGES = 32;
+
+  /** The result of {@link #parse(String,long)} for a {@code Range} header of which no range is satisfiable. */
+  static final long[] UNSATISFIABLE = {};
+
+  private static final String BYTES_UNIT = "bytes";
+  private static final byte[] CRLF = {'\r', '\n'};
+  private static final int COPY_BUFFER_SIZE = 8192;
+
+  /**
+   * Returns the length of the specified entity, if it is an entity for which ranges are supported, or {@code -1} otherwise.
+   *
+   * @param entity The entity.
+   * @param contentLength The value of the {@code Content-Length} header of the response, or {@code null} if it is not specified.
+   * @return The length of the specified entity, if it is an entity for which ranges are supported, or {@code -1} otherwise.
+   */
+  static long getLength(final Object entity, final String contentLength) {
+    if (entity instanceof byte[])
+      return ((byte[])entity).length;
+
+    if (entity instanceof File)
+      return ((File)entity).length();
+
+    if (entity instanceof FileDataSource)
+      return ((FileDataSource)entity).getFile().length();
+
+    if (entity instanceof DataSource && contentLength != null) {
+      try {
+        return Long.parseLong(contentLength.trim());
+      }
+      catch (final NumberFormatException e) {
+        return -1;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns whether the specified {@code If-Range} header is satisfied by the validators of the representation [RFC 7233 3.2]. An
+   * entity-tag must strongly match the {@code ETag} of the response, and an HTTP-date must exactly match the {@code Last-Modified} of
+   * the response or, if it is not specified, the last modification time of a {@link File} entity.
+   *
+   * @param ifRange The value of the {@code If-Range} header.
+   * @param eTag The value of the {@code ETag} header of the response, or {@code null} if it is not specified.
+   * @param lastModified The value of the {@code Last-Modified} header of the response, or {@code null} if it is not specified.
+   * @param entity The entity.
+   * @return Whether the specified {@code If-Range} header is satisfied by the validators of the representation.
+   */
+  static boolean isIfRangeSatisfied(String ifRange, final String eTag, final String lastModified, final Object entity) {
+    ifRange = ifRange.trim();
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/"))
+      return !ifRange.startsWith("W/") && eTag != null && ifRange.equals(eTag.trim());
+
+    final long date;
+    try {
+      date = SimpleDateFormats.RFC_1123.get().parse(ifRange).getTime();
+    }
+    catch (final ParseException e) {
+      return false;
+    }
+
+    if (lastModified != null) {
+      try {
+        return date == SimpleDateFormats.RFC_1123.get().parse(lastModified).getTime();
+      }
+      catch (final ParseException e) {
+        return false;
+      }
+    }
+
+    // HTTP-date has a resolution of one second
+    return entity instanceof File && ((File)entity).lastModified() / 1000 == date / 1000;
+  }
+
+  /**
+   * Parses the specified {@code Range} header for an entity of the specified length [RFC 7233 2.1], and returns the satisfiable ranges
+   * as an array of inclusive {@code first} and {@code last} byte positions, in ascending order, with overlapping and adjacent ranges
+   * coalesced.
+   *
+   * @param range The value of the {@code Range} header.
+   * @param length The length of the entity.
+   * @return The satisfiable ranges as an array of inclusive {@code first} and {@code last} byte positions, {@link #UNSATISFIABLE} if
+   *         none of the ranges is satisfiable, or {@code null} if the {@code Range} header is to be ignored, because it is not a valid
+   *         {@code bytes} range, or specifies more than {@link #MAX_RANGES} ranges.
+   */
+  static long[] parse(final String range, final long length) {
+    final int eq = range.indexOf('=');
+    if (eq == -1 || !BYTES_UNIT.equalsIgnoreCase(range.substring(0, eq).trim()))
+      return null;
+
+    long[] ranges = new long[8];
+    int size = 0;
+    boolean hasRange = false;
+    for (int start = eq + 1, end, len = range.length(); start <= len; start = end + 1) { // [N]
+      end = range.indexOf(',', start);
+      if (end == -1)
+        end = len;
+
+      final String spec = range.substring(start, end).trim();
+      if (spec.length() == 0)
+        continue;
+
+      final int dash = spec.indexOf('-');
+      if (dash == -1)
+        return null;
+
+      final long first = parsePosition(spec.substring(0, dash).trim());
+      final long last = parsePosition(spec.substring(dash + 1).trim());
+      if (first == -2 || last == -2 || first == -1 && last == -1)
+        return null;
+
+      hasRange = true;
+      final long from;
+      final long to;
+      if (first == -1) {
+        // suffix-byte-range-spec
+        if (last <= 0)
+          continue;
+
+        from = Math.max(0, length - last);
+        to = length - 1;
+      }
+      else {
+        if (last != -1 && last < first)
+          return null;
+
+        from = first;
+        to = last == -1 || last >= length ? length - 1 : last;
+      }
+
+      if (from >= length)
+        continue;
+
+      if (size == ranges.length) {
+        // Bound the cost of coalescing for a Range header with an excessive number of ranges
+        if (size >= MAX_RANGES * 8)
+          return null;
+
+        ranges = Arrays.copyOf(ranges, size * 2);
+      }
+
+      ranges[size++] = from;
+      ranges[size++] = to;
+    }
+
+    if (!hasRange)
+      return null;
+
+    if (size == 0)
+      return UNSATISFIABLE;
+
+    return coalesce(ranges, size);
+  }
+
+  /**
+   * Returns the value of the specified byte position, {@code -1} if it is empty, or {@code -2} if it is not a valid byte position.
+   */
+  private static long parsePosition(final String position) {
+    final int len = position.length();
+    if (len == 0)
+      return -1;
+
+    long value = 0;
+    for (int i = 0; i < len; ++i) { // [N]
+      final char ch = position.charAt(i);
+      if (ch < '0' || '9' < ch)
+        return -2;
+
+      value = value * 10 + (ch - '0');
+      if (value < 0) // Overflow
+        return Long.MAX_VALUE;
+    }
+
+    return value;
+  }
+
+  private static long[] coalesce(final long[] ranges, final int size) {
+    final int count = size / 2;
+    final long[][] pairs = new long[count][];
+    for (int i = 0; i < count; ++i) // [A]
+      pairs[i] = new long[] {ranges[i * 2], ranges[i * 2 + 1]};
+
+    Arrays.sort(pairs, (o1, o2) -> Long.compare(o1[0], o2[0]));
+    final long[] coalesced = new long[size];
+    int j = 0;
+    for (int i = 0; i < count; ++i) { // [A]
+      final long[] pair = pairs[i];
+      if (j > 0 && pair[0] <= coalesced[j - 1] + 1) {
+        if (pair[1] > coalesced[j - 1])
+          coalesced[j - 1] = pair[1];
+      }
+      else {
+        coalesced[j++] = pair[0];
+        coalesced[j++] = pair[1];
+      }
+    }
+
+    return j / 2 > MAX_RANGES ? null : j == size ? coalesced : Arrays.copyOf(coalesced, j);
+  }
+
+  /**
+   * Returns the value of the {@code Content-Range} header of the specified range.
+   *
+   * @param first The first byte position of the range.
+   * @param last The last byte position of the range.
+   * @param length The length of the entity.
+   * @return The value of the {@code Content-Range} header of the specified range.
+   */
+  static String getContentRange(final long first, final long last, final long length) {
+    return BYTES_UNIT + " " + first + "-" + last + "/" + length;
+  }
+
+  /**
+   * Returns the value of the {@code Content-Range} header of a {@code 416 Range Not Satisfiable} response for an entity of the
+   * specified length.
+   *
+   * @param length The length of the entity.
+   * @return The value of the {@code Content-Range} header of a {@code 416 Range Not Satisfiable} response.
+   */
+  static String getUnsatisfiedContentRange(final long length) {
+    return BYTES_UNIT + " */" + length;
+  }
+
+  private final Object entity;
+  private final long length;
+  private final long[] ranges;
+  private final String boundary;
+  private final byte[][] partHeaders;
+  private final long contentLength;
+
+  /**
+   * Creates a new {@link ByteRanges} of the specified entity.
+   *
+   * @param entity The entity.
+   * @param length The length of the entity.
+   * @param ranges The ranges, as returned by {@link #parse(String,long)}.
+   * @param contentType The {@code Content-Type} of the entity, or {@code null} if it is not known.
+   */
+  ByteRanges(final Object entity, final long length, final long[] ranges, final String contentType) {
+    this.entity = entity;
+    this.length = length;
+    this.ranges = ranges;
+    if (ranges.length == 2) {
+      this.boundary = null;
+      this.partHeaders = null;
+      this.contentLength = ranges[1] - ranges[0] + 1;
+    }
+    else {
+      this.boundary = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE) + Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+      this.partHeaders = new byte[ranges.length / 2][];
+      long contentLength = 0;
+      for (int i = 0, p = 0; i < ranges.length; i += 2, ++p) { // [A]
+        final StringBuilder builder = new StringBuilder();
+        if (p > 0)
+          builder.append("\r\n");
+
+        builder.append("--").append(boundary).append("\r\n");
+        if (contentType != null)
+          builder.append(HttpHeaders.CONTENT_TYPE).append(": ").append(contentType).append("\r\n");
+
+        builder.append(HttpHeaders.CONTENT_RANGE).append(": ").append(getContentRange(ranges[i], ranges[i + 1], length)).append("\r\n\r\n");
+        partHeaders[p] = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        contentLength += partHeaders[p].length + ranges[i + 1] - ranges[i] + 1;
+      }
+
+      this.contentLength = contentLength + CRLF.length + 2 + boundary.length() + 2 + CRLF.length;
+    }
+  }
+
+  /**
+   * Returns whether this {@link ByteRanges} is written as a {@code multipart/byteranges} body.
+   *
+   * @return Whether this {@link ByteRanges} is written as a {@code multipart/byteranges} body.
+   */
+  public boolean isMultipart() {
+    return boundary != null;
+  }
+
+  /**
+   * Returns the value of the {@code Content-Type} header of the {@code multipart/byteranges} body, or {@code null} if this
+   * {@link ByteRanges} is a single range.
+   *
+   * @return The value of the {@code Content-Type} header of the {@code multipart/byteranges} body, or {@code null} if this
+   *         {@link ByteRanges} is a single range.
+   */
+  public String getMultipartContentType() {
+    return boundary == null ? null : "multipart/byteranges; boundary=" + boundary;
+  }
+
+  /**
+   * Returns the value of the {@code Content-Range} header of the single range, or {@code null} if this {@link ByteRanges} is written
+   * as a {@code multipart/byteranges} body.
+   *
+   * @return The value of the {@code Content-Range} header of the single range, or {@code null} if this {@link ByteRanges} is written
+   *         as a {@code multipart/byteranges} body.
+   */
+  public String getContentRange() {
+    return boundary != null ? null : getContentRange(ranges[0], ranges[1], length);
+  }
+
+  /**
+   * Returns the exact number of bytes written by {@link #writeTo(OutputStream)}.
+   *
+   * @return The exact number of bytes written by {@link #writeTo(OutputStream)}.
+   */
+  public long getContentLength() {
+    return contentLength;
+  }
+
+  /**
+   * Writes the body of the {@code 206 Partial Content} response to the specified {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream}.
+   * @throws EOFException If the entity is shorter than its length.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public void writeTo(final OutputStream out) throws IOException {
+    if (entity instanceof byte[]) {
+      final byte[] bytes = (byte[])entity;
+      writeRanges(out, (o, position, count) -> o.write(bytes, (int)position, (int)count));
+    }
+    else if (entity instanceof File || entity instanceof FileDataSource) {
+      final File file = entity instanceof File ? (File)entity : ((FileDataSource)entity).getFile();
+      final MappedFileCache.Region region = MappedFileCache.getInstance().acquire(file);
+      if (region != null) {
+        try {
+          if (region.length() == length) {
+            writeRanges(out, (o, position, count) -> region.writeTo(position, count, o));
+            return;
+          }
+        }
+        finally {
+          region.release();
+        }
+      }
+
+      try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+        writeRanges(out, (o, position, count) -> EntityChannels.transfer(channel, position, count, o));
+      }
+    }
+    else {
+      try (final InputStream in = ((DataSource)entity).getInputStream()) {
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        final long[] offset = {0};
+        writeRanges(out, (o, position, count) -> {
+          skip(in, position - offset[0]);
+          for (long remaining = count; remaining > 0;) { // [N]
+            final int n = in.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+            if (n == -1)
+              throw new EOFException("Unable to read " + remaining + " bytes at position " + (position + count - remaining));
+
+            o.write(buffer, 0, n);
+            remaining -= n;
+          }
+
+          offset[0] = position + count;
+        });
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface RangeWriter {
+    void write(OutputStream out, long position, long count) throws IOException;
+  }
+
+  private void writeRanges(final OutputStream out, final RangeWriter writer) throws IOException {
+    if (boundary == null) {
+      writer.write(out, ranges[0], ranges[1] - ranges[0] + 1);
+      return;
+    }
+
+    for (int i = 0, p = 0; i < ranges.length; i += 2, ++p) { // [A]
+      out.write(partHeaders[p]);
+      writer.write(out, ranges[i], ranges[i + 1] - ranges[i] + 1);
+    }
+
+    out.write(CRLF);
+    out.write(("--" + boundary + "--").getBytes(StandardCharsets.US_ASCII));
+    out.write(CRLF);
+  }
+
+  private static void skip(final InputStream in, long n) throws IOException {
+    while (n > 0) {
+      final long skipped = in.skip(n);
+      if (skipped > 0) {
+        n -= skipped;
+      }
+      else if (in.read() == -1) {
+        throw new EOFException();
+      }
+      else {
+        --n;
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -60,6 +60,84 @@ public final class CommonProperties {
    */
   public static final int CONTENT_LENGTH_BUFFER_DEFAULT = 8192;
 
+  /**
+   * A long value that defines the maximum total number of bytes of the files that are kept memory-mapped by the
+   * {@link MappedFileCache}, from which {@link java.io.File} entities are written. A value less than or equal to zero disables the
+   * {@link MappedFileCache}.
+   * <p>
+   * Default: {@code 0}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @implNote The {@link MappedFileCache} is intended for hot, large and immutable files, and immutability is a hard requirement: a
+   *           file that is truncated or rewritten in place while it is mapped can crash the JVM with {@code SIGBUS} when a page that is
+   *           no longer backed by the file is read. A file must instead be replaced atomically (i.e. written to a new file that is then
+   *           renamed over it), in which case it is remapped on its next request. Released mappings are unmapped by the garbage
+   *           collector, not eagerly.
+   * @see #MAPPED_FILE_CACHE_MIN_FILE_SIZE
+   */
+  public static final String MAPPED_FILE_CACHE_SIZE = "jetrs.mappedFileCache.size";
+
+  /**
+   * A long value that defines the minimum size in bytes of a file for it to be memory-mapped by the {@link MappedFileCache}.
+   * <p>
+   * Default: {@value #MAPPED_FILE_CACHE_MIN_FILE_SIZE_DEFAULT}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @see #MAPPED_FILE_CACHE_SIZE
+   */
+  public static final String MAPPED_FILE_CACHE_MIN_FILE_SIZE = "jetrs.mappedFileCache.minFileSize";
+
+  /**
+   * Default minimum size in bytes of a file for it to be memory-mapped by the {@link MappedFileCache}.
+   */
+  public static final long MAPPED_FILE_CACHE_MIN_FILE_SIZE_DEFAULT = 1048576;
+
+  /**
+   * An integer value that defines the maximum number of buffers of each size class that are retained by each thread in the
+   * {@link BufferPool}, from which the buffers of the outbound message entity are acquired. A value less than or equal to zero disables
+   * the pooling of buffers.
+   * <p>
+   * Default: {@value #BUFFER_POOL_THREAD_CACHE_SIZE_DEFAULT}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @see #CONTENT_LENGTH_BUFFER
+   */
+  public static final String BUFFER_POOL_THREAD_CACHE_SIZE = "jetrs.bufferPool.threadCacheSize";
+
+  /**
+   * Default value for {@link #BUFFER_POOL_THREAD_CACHE_SIZE} property.
+   */
+  public static final int BUFFER_POOL_THREAD_CACHE_SIZE_DEFAULT = 4;
+
+  /**
+   * An integer value that defines the size in bytes of the largest buffer that is retained by the {@link BufferPool}. Larger buffers
+   * are allocated and released to the garbage collector.
+   * <p>
+   * Default: {@value #BUFFER_POOL_MAX_BUFFER_SIZE_DEFAULT}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   */
+  public static final String BUFFER_POOL_MAX_BUFFER_SIZE = "jetrs.bufferPool.maxBufferSize";
+
+  /**
+   * Default value for {@link #BUFFER_POOL_MAX_BUFFER_SIZE} property.
+   */
+  public static final int BUFFER_POOL_MAX_BUFFER_SIZE_DEFAULT = 262144;
+
+  /**
+   * A boolean value that enables the detection of buffers acquired from the {@link BufferPool} that are garbage collected without
+   * having been released, each of which is logged with the stack trace of its acquisition. Leak detection is also enabled if the
+   * {@link BufferPool} logger is at the debug level.
+   * <p>
+   * Default: {@code false}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   */
+  public static final String BUFFER_POOL_LEAK_DETECTION = "jetrs.bufferPool.leakDetection";
+
   /**
    * Disable standard providers for specified entity classes from automatically loading during startup.
    * @formatter:off
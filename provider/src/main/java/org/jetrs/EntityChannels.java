@@ -0,0 +1,140 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Utility functions for the transfer of file content to an entity {@link OutputStream} of a {@link javax.ws.rs.ext.MessageBodyWriter}.
+ * If the bytes written to the entity stream reach the container's output unaltered, and the container's output is a
+ * {@link WritableByteChannel}, the content is transferred with {@link FileChannel#transferTo(long,long,WritableByteChannel)}, which
+ * lets the OS move the bytes without copying them through the heap. Otherwise, the content is copied through a per-thread transfer
+ * buffer.
+ */
+public final class EntityChannels {
+  private static final int TRANSFER_BUFFER_SIZE = 65536;
+  private static final ThreadLocal<ByteBuffer> transferBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(TRANSFER_BUFFER_SIZE));
+
+  /**
+   * The innermost stream of an entity {@link OutputStream}, which opens the container's output on demand.
+   */
+  interface Target {
+    /**
+     * Returns the {@link OutputStream} to which the entity is written, opening it if it has not yet been opened.
+     *
+     * @return The {@link OutputStream} to which the entity is written.
+     * @throws IOException If an I/O error has occurred.
+     */
+    OutputStream openTarget() throws IOException;
+  }
+
+  /**
+   * Returns the {@link WritableByteChannel} to which the bytes written to the specified entity {@link OutputStream} are written
+   * unaltered, or {@code null} if there is none, such as when the entity stream is wrapped by a
+   * {@link javax.ws.rs.ext.WriterInterceptor}, is buffered to determine the {@code Content-Length}, or if the container's output is
+   * not a {@link WritableByteChannel}.
+   *
+   * @param entityStream The entity {@link OutputStream}.
+   * @return The {@link WritableByteChannel} to which the bytes written to the specified entity {@link OutputStream} are written
+   *         unaltered, or {@code null} if there is none.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static WritableByteChannel getChannel(final OutputStream entityStream) throws IOException {
+    OutputStream out = entityStream;
+    if (out instanceof RelegateOutputStream)
+      out = ((RelegateOutputStream)out).getTarget();
+
+    if (out instanceof Target)
+      out = ((Target)out).openTarget();
+
+    return out instanceof WritableByteChannel ? (WritableByteChannel)out : null;
+  }
+
+  /**
+   * Transfers {@code count} bytes of the specified {@link FileChannel}, starting at {@code position}, to the specified entity
+   * {@link OutputStream}.
+   *
+   * @param in The {@link FileChannel}.
+   * @param position The position in the file at which the transfer is to begin.
+   * @param count The number of bytes to transfer.
+   * @param entityStream The entity {@link OutputStream}.
+   * @throws EOFException If the file ends before {@code count} bytes have been transferred.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void transfer(final FileChannel in, final long position, final long count, final OutputStream entityStream) throws IOException {
+    final WritableByteChannel channel = getChannel(entityStream);
+    if (channel != null)
+      transfer(in, position, count, channel);
+    else
+      copy(in, position, count, entityStream);
+  }
+
+  /**
+   * Writes the remaining bytes of the specified {@link ByteBuffer} to the specified entity {@link OutputStream}.
+   *
+   * @param buffer The {@link ByteBuffer}.
+   * @param entityStream The entity {@link OutputStream}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void write(final ByteBuffer buffer, final OutputStream entityStream) throws IOException {
+    final WritableByteChannel channel = getChannel(entityStream);
+    if (channel != null) {
+      while (buffer.hasRemaining())
+        channel.write(buffer);
+    }
+    else if (buffer.hasArray()) {
+      entityStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+    }
+    else {
+      final byte[] bytes = transferBuffers.get().array();
+      for (int n; (n = Math.min(bytes.length, buffer.remaining())) > 0;) { // [N]
+        buffer.get(bytes, 0, n);
+        entityStream.write(bytes, 0, n);
+      }
+    }
+  }
+
+  private static void transfer(final FileChannel in, long position, long count, final WritableByteChannel out) throws IOException {
+    for (long n; count > 0; position += n, count -= n) // [N]
+      if ((n = in.transferTo(position, count, out)) <= 0)
+        throw new EOFException("Unable to transfer " + count + " bytes at position " + position);
+  }
+
+  private static void copy(final FileChannel in, long position, long count, final OutputStream out) throws IOException {
+    final ByteBuffer buffer = transferBuffers.get();
+    final byte[] bytes = buffer.array();
+    for (int n; count > 0; position += n, count -= n) { // [N]
+      buffer.clear();
+      if (count < bytes.length)
+        buffer.limit((int)count);
+
+      if ((n = in.read(buffer, position)) < 0)
+        throw new EOFException("Unable to transfer " + count + " bytes at position " + position);
+
+      out.write(bytes, 0, n);
+    }
+  }
+
+  private EntityChannels() {
+  }
+}
\ No newline at end of file
@@ -110,9 +110,15 @@ public final class EntityUtil {
   }
 
   static UnmodifiableMultivaluedArrayHashMap<String,String> readFormParamsEncoded(final InputStream in, final Charset encoding) throws IOException {
+    final UnmodifiableMultivaluedArrayHashMap<String,String> map = new UnmodifiableMultivaluedArrayHashMap<>();
+    if (FormParser.isSupported(encoding)) {
+      FormParser.parse(in, encoding, false, _maxFormKeys, _maxFormContentSize, map);
+      map.setUnmodifiable();
+      return map;
+    }
+
     final StringBuilder b = new StringBuilder();
     String name = null;
-    final UnmodifiableMultivaluedArrayHashMap<String,String> map = new UnmodifiableMultivaluedArrayHashMap<>();
     final Reader r = new InputStreamReader(in, encoding);
     try {
       for (int ch; (ch = r.read()) != -1;) { // [ST]
@@ -146,7 +152,11 @@ public final class EntityUtil {
       return readFormParamsEncoded(in, encoding);
 
     final UnmodifiableMultivaluedLinkedHashMap<String> params = new UnmodifiableMultivaluedLinkedHashMap<>();
-    UrlEncoded.decodeTo(in, params, encoding, _maxFormContentSize, _maxFormKeys);
+    if (FormParser.isSupported(encoding))
+      FormParser.parse(in, encoding, true, _maxFormKeys, _maxFormContentSize, params);
+    else
+      UrlEncoded.decodeTo(in, params, encoding, _maxFormContentSize, _maxFormKeys);
+
     params.setUnmodifiable();
     return params;
   }
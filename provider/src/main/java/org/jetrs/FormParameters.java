@@ -0,0 +1,110 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jetty.util.UrlEncoded;
+
+/**
+ * The parameters of an {@code application/x-www-form-urlencoded} body, which is parsed at most once. The encoded parameters are read
+ * eagerly, and the decoded parameters, as well as the {@link Map Map&lt;String,String[]&gt;} view for
+ * {@link javax.servlet.ServletRequest#getParameterMap()}, are derived lazily on first access.
+ */
+final class FormParameters {
+  private final Charset charset;
+  private final UnmodifiableMultivaluedArrayHashMap<String,String> encoded;
+  private UnmodifiableMultivaluedArrayHashMap<String,String> decoded;
+  private Map<String,String[]> stringArrayMap;
+
+  /**
+   * Reads the {@link FormParameters} from the specified {@link InputStream}.
+   *
+   * @param in The {@link InputStream} of the body.
+   * @param charset The {@link Charset} of the body.
+   * @return The {@link FormParameters} read from the specified {@link InputStream}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static FormParameters read(final InputStream in, final Charset charset) throws IOException {
+    return new FormParameters(charset, EntityUtil.readFormParamsEncoded(in, charset));
+  }
+
+  private FormParameters(final Charset charset, final UnmodifiableMultivaluedArrayHashMap<String,String> encoded) {
+    this.charset = charset;
+    this.encoded = encoded;
+  }
+
+  /**
+   * Returns the decoded or encoded form parameters.
+   *
+   * @param decode Whether the parameter names and values are to be decoded.
+   * @return The decoded or encoded form parameters.
+   */
+  UnmodifiableMultivaluedArrayHashMap<String,String> get(final boolean decode) {
+    if (!decode)
+      return encoded;
+
+    if (decoded == null) {
+      final UnmodifiableMultivaluedArrayHashMap<String,String> decoded = new UnmodifiableMultivaluedArrayHashMap<>(encoded.size());
+      for (final Map.Entry<String,List<String>> entry : encoded.entrySet()) { // [S]
+        final List<String> values = entry.getValue();
+        final int size = values.size();
+        final ArrayList<String> decodedValues = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) // [RA]
+          decodedValues.add(decode(values.get(i)));
+
+        // Distinct encoded names may decode to the same name, i.e. "a+b" and "a%20b"
+        final String key = decode(entry.getKey());
+        final List<String> existing = decoded.get(key);
+        if (existing != null)
+          existing.addAll(decodedValues);
+        else
+          decoded.put(key, decodedValues);
+      }
+
+      decoded.setUnmodifiable();
+      this.decoded = decoded;
+    }
+
+    return decoded;
+  }
+
+  private String decode(final String str) {
+    return str == null ? null : UrlEncoded.decodeString(str, 0, str.length(), charset);
+  }
+
+  /**
+   * Returns an unmodifiable {@link Map} of the decoded form parameters with {@code String[]} values, as specified by
+   * {@link javax.servlet.ServletRequest#getParameterMap()}.
+   *
+   * @return An unmodifiable {@link Map} of the decoded form parameters with {@code String[]} values.
+   */
+  Map<String,String[]> getStringArrayMap() {
+    if (stringArrayMap == null) {
+      final UnmodifiableMultivaluedArrayHashMap<String,String> decoded = get(true);
+      stringArrayMap = decoded.size() == 0 ? Collections.EMPTY_MAP : Collections.unmodifiableMap(EntityUtil.toStringArrayMap(decoded));
+    }
+
+    return stringArrayMap;
+  }
+}
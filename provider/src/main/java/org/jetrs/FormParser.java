@@ -0,0 +1,258 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Byte-oriented parser of {@code application/x-www-form-urlencoded} bodies. The body is scanned in chunks of a reusable read buffer,
+ * and the bytes of each name and value are accumulated (and, if decoding, unescaped from {@code %XX} and {@code '+'}) in a reusable
+ * token buffer, from which exactly one {@link String} is created per name or value. Repeated names are interned, so that a form with
+ * many values of the same name creates a single {@link String} for it. The {@code maxFormContentSize} and {@code maxFormKeys} limits
+ * are enforced as the body is read, rather than after it has been consumed.
+ * <p>
+ * The parser is only applicable to {@linkplain #isSupported(Charset) ASCII-compatible charsets}, in which the delimiters
+ * {@code '&'}, {@code '='}, {@code '+'} and {@code '%'} are single bytes that cannot occur within a multi-byte sequence. A name or
+ * value that is not valid in the charset is rejected with {@link BadRequestException}, rather than replaced.
+ */
+final class FormParser {
+  private static final int READ_BUFFER_SIZE = 4096;
+  private static final int TOKEN_BUFFER_SIZE = 256;
+  private static final int MAX_RETAINED_TOKEN_BUFFER_SIZE = 8192;
+  private static final int MAX_INTERNED_KEY_LENGTH = 64;
+  private static final int INTERN_TABLE_SIZE = 256; // Must be a power of 2
+  private static final int MAX_INTERNED_KEYS = INTERN_TABLE_SIZE * 3 / 4;
+
+  private static final ThreadLocal<FormParser> parsers = ThreadLocal.withInitial(FormParser::new);
+
+  /**
+   * Returns whether the specified {@link Charset} is supported by {@link FormParser}.
+   *
+   * @param charset The {@link Charset}.
+   * @return Whether the specified {@link Charset} is supported by {@link FormParser}.
+   */
+  static boolean isSupported(final Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+  }
+
+  /**
+   * Parses the {@code application/x-www-form-urlencoded} body in the specified {@link InputStream} into the specified
+   * {@link MultivaluedMap}.
+   *
+   * @param in The {@link InputStream} of the body.
+   * @param charset The {@link Charset} of the body, which must be {@linkplain #isSupported(Charset) supported}.
+   * @param decode Whether the names and values are to be decoded.
+   * @param maxFormKeys The maximum number of distinct names, or a negative value for no limit.
+   * @param maxFormContentSize The maximum number of bytes of the body, or a negative value for no limit.
+   * @param map The {@link MultivaluedMap} into which the parameters are to be added.
+   * @throws IOException If an I/O error has occurred.
+   * @throws BadRequestException If the body exceeds a limit, contains an invalid percent-encoding, or contains a name or value that
+   *           is not valid in the specified {@link Charset}.
+   */
+  static void parse(final InputStream in, final Charset charset, final boolean decode, final int maxFormKeys, final int maxFormContentSize, final MultivaluedMap<String,String> map) throws IOException {
+    parsers.get().parse0(in, charset, decode, maxFormKeys, maxFormContentSize, map);
+  }
+
+  private static int hexValue(final byte b) {
+    if ('0' <= b && b <= '9')
+      return b - '0';
+
+    if ('a' <= b && b <= 'f')
+      return b - 'a' + 10;
+
+    if ('A' <= b && b <= 'F')
+      return b - 'A' + 10;
+
+    throw new BadRequestException("Invalid percent-encoding in form: '" + (char)(b & 0xff) + "'");
+  }
+
+  private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+  private byte[] tokenBuffer = new byte[TOKEN_BUFFER_SIZE];
+  private int tokenLength;
+
+  private final byte[][] internedBytes = new byte[INTERN_TABLE_SIZE][];
+  private final String[] internedKeys = new String[INTERN_TABLE_SIZE];
+  private int internedCount;
+  private Charset internedCharset;
+  private CharsetDecoder decoder;
+
+  private FormParser() {
+  }
+
+  private void parse0(final InputStream in, final Charset charset, final boolean decode, final int maxFormKeys, final int maxFormContentSize, final MultivaluedMap<String,String> map) throws IOException {
+    if (!charset.equals(internedCharset)) {
+      clearInterned();
+      internedCharset = charset;
+      decoder = null;
+    }
+
+    try {
+      final byte[] readBuffer = this.readBuffer;
+      String key = null;
+      int escape = 0; // The number of hex digits of a percent-encoding that remain to be read
+      int high = 0;
+      long contentSize = 0;
+      tokenLength = 0;
+      for (int n; (n = in.read(readBuffer)) != -1;) { // [ST]
+        if (maxFormContentSize >= 0 && (contentSize += n) > maxFormContentSize)
+          throw new BadRequestException("Form is larger than max length " + maxFormContentSize);
+
+        for (int i = 0; i < n; ++i) { // [A]
+          final byte b = readBuffer[i];
+          if (escape == 2) {
+            high = hexValue(b);
+            escape = 1;
+          }
+          else if (escape == 1) {
+            append((byte)((high << 4) | hexValue(b)));
+            escape = 0;
+          }
+          else if (b == '&') {
+            add(map, key, charset, maxFormKeys);
+            key = null;
+          }
+          else if (b == '=' && key == null) {
+            key = intern(charset);
+            tokenLength = 0;
+          }
+          else if (decode && b == '+') {
+            append((byte)' ');
+          }
+          else if (decode && b == '%') {
+            escape = 2;
+          }
+          else {
+            append(b);
+          }
+        }
+      }
+
+      if (escape != 0)
+        throw new BadRequestException("Incomplete percent-encoding at end of form");
+
+      add(map, key, charset, maxFormKeys);
+    }
+    finally {
+      tokenLength = 0;
+      if (tokenBuffer.length > MAX_RETAINED_TOKEN_BUFFER_SIZE)
+        tokenBuffer = new byte[TOKEN_BUFFER_SIZE];
+    }
+  }
+
+  private void append(final byte b) {
+    if (tokenLength == tokenBuffer.length)
+      tokenBuffer = Arrays.copyOf(tokenBuffer, tokenLength * 2);
+
+    tokenBuffer[tokenLength++] = b;
+  }
+
+  private void add(final MultivaluedMap<String,String> map, final String key, final Charset charset, final int maxFormKeys) {
+    if (key != null)
+      map.add(key, newString(charset));
+    else if (tokenLength > 0)
+      map.add(intern(charset), "");
+    else
+      return;
+
+    tokenLength = 0;
+    if (maxFormKeys >= 0 && map.size() > maxFormKeys)
+      throw new BadRequestException("Too many form keys > " + maxFormKeys);
+  }
+
+  /**
+   * Returns the {@link String} of the current token, which is interned if its length does not exceed
+   * {@link #MAX_INTERNED_KEY_LENGTH}.
+   */
+  private String intern(final Charset charset) {
+    final byte[] tokenBuffer = this.tokenBuffer;
+    final int tokenLength = this.tokenLength;
+    if (tokenLength > MAX_INTERNED_KEY_LENGTH)
+      return newString(charset);
+
+    int hash = 1;
+    for (int i = 0; i < tokenLength; ++i) // [A]
+      hash = 31 * hash + tokenBuffer[i];
+
+    int slot = (hash ^ (hash >>> 16)) & (INTERN_TABLE_SIZE - 1);
+    for (byte[] bytes; (bytes = internedBytes[slot]) != null; slot = (slot + 1) & (INTERN_TABLE_SIZE - 1)) // [A]
+      if (equals(bytes, tokenBuffer, tokenLength))
+        return internedKeys[slot];
+
+    final String key = newString(charset);
+    if (internedCount == MAX_INTERNED_KEYS) {
+      clearInterned();
+      return key;
+    }
+
+    internedBytes[slot] = Arrays.copyOf(tokenBuffer, tokenLength);
+    internedKeys[slot] = key;
+    ++internedCount;
+    return key;
+  }
+
+  /**
+   * Returns the {@link String} of the current token, of which the bytes are decoded strictly if they are not all ASCII.
+   *
+   * @throws BadRequestException If the bytes of the current token are not valid in the specified {@link Charset}.
+   */
+  private String newString(final Charset charset) {
+    final byte[] tokenBuffer = this.tokenBuffer;
+    final int tokenLength = this.tokenLength;
+    for (int i = 0; i < tokenLength; ++i) { // [A]
+      if (tokenBuffer[i] < 0) {
+        if (decoder == null)
+          decoder = charset.newDecoder();
+
+        try {
+          return decoder.decode(ByteBuffer.wrap(tokenBuffer, 0, tokenLength)).toString();
+        }
+        catch (final CharacterCodingException e) {
+          throw new BadRequestException("Invalid " + charset.name() + " in form", e);
+        }
+      }
+    }
+
+    return new String(tokenBuffer, 0, tokenLength, charset);
+  }
+
+  private static boolean equals(final byte[] bytes, final byte[] tokenBuffer, final int tokenLength) {
+    if (bytes.length != tokenLength)
+      return false;
+
+    for (int i = 0; i < tokenLength; ++i) // [A]
+      if (bytes[i] != tokenBuffer[i])
+        return false;
+
+    return true;
+  }
+
+  private void clearInterned() {
+    Arrays.fill(internedBytes, null);
+    Arrays.fill(internedKeys, null);
+    internedCount = 0;
+  }
+}
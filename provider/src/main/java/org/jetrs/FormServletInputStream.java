@@ -19,20 +19,15 @@ package org.jetrs;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 
 import javax.servlet.ServletInputStream;
 
-import org.eclipse.jetty.util.UrlEncoded;
 import org.libj.net.FilterServletInputStream;
 
 class FormServletInputStream extends FilterServletInputStream {
   private final String characterEncoding;
   private Charset charset;
-  private UnmodifiableMultivaluedArrayHashMap<String,String> formParameterEncodedMap;
-  private UnmodifiableMultivaluedArrayHashMap<String,String> formParameterDecodedMap;
+  private FormParameters formParameters;
 
   FormServletInputStream(final ServletInputStream in, final String characterEncoding) {
     super(in);
@@ -43,41 +38,18 @@ class FormServletInputStream extends FilterServletInputStream {
     return charset == null ? charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.ISO_8859_1 : charset;
   }
 
-  @SuppressWarnings({"rawtypes", "unchecked"})
-  UnmodifiableMultivaluedArrayHashMap<String,String> getFormParameterMap(final boolean decoded) throws IOException {
-    if (formParameterEncodedMap == null)
-      formParameterEncodedMap = EntityUtil.readFormParamsEncoded(in, getCharacterEncoding());
-
-    if (!decoded)
-      return formParameterEncodedMap;
-
-    if (formParameterDecodedMap == null) {
-      if (formParameterEncodedMap.size() == 0) {
-        formParameterDecodedMap = new UnmodifiableMultivaluedArrayHashMap();
-      }
-      else {
-        formParameterDecodedMap = new UnmodifiableMultivaluedArrayHashMap(formParameterEncodedMap);
-        final Charset charset = getCharacterEncoding();
-        for (final Map.Entry<String,List<String>> entry : formParameterDecodedMap.entrySet()) { // [S]
-          final ArrayList<String> values = (ArrayList<String>)entry.getValue();
-          for (int i = 0, i$ = values.size(); i < i$; ++i) { // [RA]
-            final String value = values.get(i);
-            values.set(i, UrlEncoded.decodeString(value, 0, value.length(), charset));
-          }
-        }
-      }
-
-      formParameterDecodedMap.setUnmodifiable();
-    }
+  FormParameters getFormParameters() throws IOException {
+    return formParameters == null ? formParameters = FormParameters.read(in, getCharacterEncoding()) : formParameters;
+  }
 
-    return formParameterDecodedMap;
+  UnmodifiableMultivaluedArrayHashMap<String,String> getFormParameterMap(final boolean decoded) throws IOException {
+    return getFormParameters().get(decoded);
   }
 
   @Override
   public void close() throws IOException {
     charset = null;
-    formParameterEncodedMap = null;
-    formParameterDecodedMap = null;
+    formParameters = null;
     super.close();
   }
 }
\ No newline at end of file
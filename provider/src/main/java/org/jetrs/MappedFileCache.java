@@ -0,0 +1,295 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.libj.lang.Systems;
+
+/**
+ * A bounded cache of read-only {@link MappedByteBuffer} regions of files, which allows hot, large and immutable files to be written
+ * directly from the page cache, without opening and reading the file for each request. A region is keyed by the path of its file,
+ * and is only reused while the last modification time and length of the file are unchanged.
+ * <p>
+ * Regions are reference counted: the cache holds one reference to each region it contains, and each writer of a region holds another
+ * until it calls {@link Region#release()}. When the total length of the cached regions exceeds the configured maximum, the least
+ * recently used regions are evicted from the cache, and each is dropped by the cache once its last writer has released it.
+ * <p>
+ * A dropped region is not unmapped explicitly, because the JDK offers no supported way to do so, and a region that is unmapped while
+ * still being read would crash the JVM. Its mapping is instead released when its {@link MappedByteBuffer} is garbage collected, so
+ * the address space and page cache held by this cache can exceed the configured maximum until the next collection. The mapped files
+ * must not be truncated or rewritten in place while they are mapped, because a read of a mapped page that is no longer backed by the
+ * file crashes the JVM with {@code SIGBUS}.
+ * <p>
+ * The cache is disabled unless {@link CommonProperties#MAPPED_FILE_CACHE_SIZE} is set.
+ */
+public final class MappedFileCache {
+  private static final MappedFileCache instance = new MappedFileCache(Systems.getProperty(CommonProperties.MAPPED_FILE_CACHE_SIZE, 0L), Systems.getProperty(CommonProperties.MAPPED_FILE_CACHE_MIN_FILE_SIZE, CommonProperties.MAPPED_FILE_CACHE_MIN_FILE_SIZE_DEFAULT));
+
+  /**
+   * Returns the {@link MappedFileCache} configured by {@link CommonProperties#MAPPED_FILE_CACHE_SIZE} and
+   * {@link CommonProperties#MAPPED_FILE_CACHE_MIN_FILE_SIZE}.
+   *
+   * @return The {@link MappedFileCache} configured by {@link CommonProperties#MAPPED_FILE_CACHE_SIZE} and
+   *         {@link CommonProperties#MAPPED_FILE_CACHE_MIN_FILE_SIZE}.
+   */
+  public static MappedFileCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * A read-only {@link MappedByteBuffer} of the full content of a file.
+   */
+  public final class Region {
+    private final Path path;
+    private final long lastModified;
+    private final MappedByteBuffer buffer;
+    private final int length;
+    private final AtomicInteger references = new AtomicInteger(1); // The reference held by the cache
+    private volatile long lastAccess;
+
+    private Region(final Path path, final long lastModified, final MappedByteBuffer buffer) {
+      this.path = path;
+      this.lastModified = lastModified;
+      this.buffer = buffer;
+      this.length = buffer.capacity();
+      this.lastAccess = System.nanoTime();
+    }
+
+    private boolean retain() {
+      for (int references; (references = this.references.get()) > 0;) // [N]
+        if (this.references.compareAndSet(references, references + 1))
+          return true;
+
+      return false;
+    }
+
+    /**
+     * Returns the length of this {@link Region}, which is the length of its file.
+     *
+     * @return The length of this {@link Region}, which is the length of its file.
+     */
+    public long length() {
+      return length;
+    }
+
+    /**
+     * Writes {@code count} bytes of this {@link Region}, starting at {@code position}, to the specified entity {@link OutputStream}.
+     *
+     * @param position The position in this {@link Region} at which the write is to begin.
+     * @param count The number of bytes to write.
+     * @param entityStream The entity {@link OutputStream}.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IndexOutOfBoundsException If {@code position} or {@code count} are out of the bounds of this {@link Region}.
+     */
+    public void writeTo(final long position, final long count, final OutputStream entityStream) throws IOException {
+      if (position < 0 || count < 0 || position + count > length)
+        throw new IndexOutOfBoundsException("position: " + position + ", count: " + count + ", length: " + length);
+
+      final ByteBuffer slice = buffer.duplicate();
+      slice.position((int)position);
+      slice.limit((int)(position + count));
+      EntityChannels.write(slice, entityStream);
+    }
+
+    /**
+     * Releases the reference to this {@link Region} that was acquired with {@link MappedFileCache#acquire(File)}. Once all references
+     * have been released, the {@link Region} is no longer counted in {@link MappedFileCache#getRetainedBytes()}, and its
+     * {@link MappedByteBuffer} is left to be unmapped by the garbage collector.
+     */
+    public void release() {
+      if (references.decrementAndGet() == 0)
+        retainedBytes.addAndGet(-length);
+    }
+  }
+
+  private final long maxSize;
+  private final long minFileSize;
+  private final ConcurrentHashMap<Path,Region> regions = new ConcurrentHashMap<>();
+  private long cachedBytes; // Guarded by this
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  MappedFileCache(final long maxSize, final long minFileSize) {
+    this.maxSize = maxSize;
+    this.minFileSize = minFileSize;
+  }
+
+  /**
+   * Returns whether this {@link MappedFileCache} is enabled.
+   *
+   * @return Whether this {@link MappedFileCache} is enabled.
+   */
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Returns a retained {@link Region} of the full content of the specified file, which the caller must {@linkplain Region#release()
+   * release} after it has been written, or {@code null} if the file is not to be mapped, because this {@link MappedFileCache} is
+   * disabled, or the length of the file is below the minimum or above the maximum for mapping.
+   *
+   * @param file The file.
+   * @return A retained {@link Region} of the full content of the specified file, or {@code null} if the file is not to be mapped.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public Region acquire(final File file) throws IOException {
+    if (maxSize <= 0)
+      return null;
+
+    final long length = file.length();
+    if (length < minFileSize || length > maxSize || length > Integer.MAX_VALUE)
+      return null;
+
+    final long lastModified = file.lastModified();
+    final Path path = file.toPath();
+    final Region cached = regions.get(path);
+    if (cached != null) {
+      if (cached.lastModified == lastModified && cached.length == length && cached.retain()) {
+        cached.lastAccess = System.nanoTime();
+        hits.increment();
+        return cached;
+      }
+
+      // The file has been modified since it was mapped
+      evict(path, cached);
+    }
+
+    misses.increment();
+    final MappedByteBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    }
+
+    final Region region = new Region(path, lastModified, buffer);
+    region.retain();
+    retainedBytes.addAndGet(length);
+    synchronized (this) {
+      final Region previous = regions.put(path, region);
+      if (previous != null) {
+        cachedBytes -= previous.length;
+        previous.release();
+      }
+
+      cachedBytes += length;
+      while (cachedBytes > maxSize) {
+        Region lru = null;
+        for (final Region candidate : regions.values()) // [C]
+          if (candidate != region && (lru == null || candidate.lastAccess - lru.lastAccess < 0))
+            lru = candidate;
+
+        if (lru == null)
+          break;
+
+        regions.remove(lru.path);
+        cachedBytes -= lru.length;
+        lru.release();
+        evictions.increment();
+      }
+    }
+
+    return region;
+  }
+
+  private synchronized void evict(final Path path, final Region region) {
+    if (regions.remove(path, region)) {
+      cachedBytes -= region.length;
+      region.release();
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Returns the number of requests for a file that were served by a cached {@link Region}.
+   *
+   * @return The number of requests for a file that were served by a cached {@link Region}.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of requests for a file that required the file to be mapped.
+   *
+   * @return The number of requests for a file that required the file to be mapped.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the ratio of {@linkplain #getHitCount() hits} to all requests for a file, or {@code 0} if there have been none.
+   *
+   * @return The ratio of {@linkplain #getHitCount() hits} to all requests for a file, or {@code 0} if there have been none.
+   */
+  public double getHitRate() {
+    final long hits = this.hits.sum();
+    final long total = hits + misses.sum();
+    return total == 0 ? 0 : (double)hits / total;
+  }
+
+  /**
+   * Returns the number of {@link Region}s that have been evicted, because the cache was full, or because their file was modified.
+   *
+   * @return The number of {@link Region}s that have been evicted.
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Returns the total length of the {@link Region}s in the cache.
+   *
+   * @return The total length of the {@link Region}s in the cache.
+   */
+  public synchronized long getCachedBytes() {
+    return cachedBytes;
+  }
+
+  /**
+   * Returns the total length of the {@link Region}s that are in the cache or are still being written. {@link Region}s that have been
+   * released by all of their holders are not counted, even if their {@link MappedByteBuffer} is yet to be unmapped by the garbage
+   * collector.
+   *
+   * @return The total length of the {@link Region}s that are in the cache or are still being written.
+   */
+  public long getRetainedBytes() {
+    return retainedBytes.get();
+  }
+
+  /**
+   * Returns the number of {@link Region}s in the cache.
+   *
+   * @return The number of {@link Region}s in the cache.
+   */
+  public int size() {
+    return regions.size();
+  }
+}
\ No newline at end of file
@@ -20,13 +20,22 @@ import java.io.IOException;
 
 import org.libj.util.DirectByteArrayOutputStream;
 
+/**
+ * A {@link DirectByteArrayOutputStream} of a bounded size, which calls {@link #beforeOverflow(int,byte[],int,int)} when a write would
+ * exceed its size. The buffer of the stream is acquired from the {@link BufferPool}, and is released to it on {@link #close()}.
+ */
 abstract class SafeDirectByteArrayOutputStream extends DirectByteArrayOutputStream {
+  private static final BufferPool bufferPool = BufferPool.getInstance();
+
   protected final int size;
   protected int totalCount;
+  private final BufferPool.Leak leak;
 
   SafeDirectByteArrayOutputStream(final int size) {
-    super(size);
+    super(0);
     this.size = size;
+    this.buf = bufferPool.acquire(size);
+    this.leak = bufferPool.track(this);
   }
 
   abstract boolean beforeOverflow(int b, byte[] buf, int off, int len) throws IOException;
@@ -63,6 +72,13 @@ abstract class SafeDirectByteArrayOutputStream extends DirectByteArrayOutputStre
 
   @Override
   public void close() throws IOException {
-    buf = null;
+    final byte[] buf = this.buf;
+    if (buf == null)
+      return;
+
+    this.buf = null;
+    bufferPool.release(buf);
+    if (leak != null)
+      leak.close();
   }
 }
\ No newline at end of file
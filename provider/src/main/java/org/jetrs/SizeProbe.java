@@ -0,0 +1,49 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Service provider interface of a probe of the serialized size of an entity, which allows the {@code Content-Length} of the response
+ * to a {@code HEAD} request to be determined without the entity being serialized. A {@link SizeProbe} is consulted if the
+ * {@link javax.ws.rs.ext.MessageBodyWriter#getSize(Object,Class,Type,Annotation[],MediaType)} of the entity returns {@code -1}.
+ * <p>
+ * Implementations are loaded with {@link java.util.ServiceLoader} from {@code META-INF/services/org.jetrs.SizeProbe}. A
+ * {@link SizeProbe} is consulted regardless of which {@link javax.ws.rs.ext.MessageBodyWriter} is selected, and must therefore only
+ * return a size for entities of which it knows the writer.
+ */
+public interface SizeProbe {
+  /**
+   * Returns the number of bytes of the specified entity as it would be written by its
+   * {@link javax.ws.rs.ext.MessageBodyWriter}, or {@code -1} if the size is not known to this {@link SizeProbe}.
+   *
+   * @param entity The entity.
+   * @param type The class of the entity.
+   * @param genericType The generic type of the entity.
+   * @param annotations The annotations of the entity.
+   * @param mediaType The media type of the entity.
+   * @return The number of bytes of the specified entity as it would be written by its {@link javax.ws.rs.ext.MessageBodyWriter}, or
+   *         {@code -1} if the size is not known to this {@link SizeProbe}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  long getSize(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.ServiceLoader;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Utility functions for the serialized size of entities, which probe entities with the {@link SizeProbe}s loaded with
+ * {@link ServiceLoader}.
+ */
+public final class SizeProbes {
+  private static final SizeProbe[] probes;
+
+  static {
+    final ArrayList<SizeProbe> list = new ArrayList<>();
+    for (final SizeProbe probe : ServiceLoader.load(SizeProbe.class, SizeProbe.class.getClassLoader())) // [I]
+      list.add(probe);
+
+    probes = list.toArray(new SizeProbe[list.size()]);
+  }
+
+  /**
+   * Returns the number of bytes of the specified entity as it would be written by the {@link javax.ws.rs.ext.MessageBodyWriter} known
+   * to a loaded {@link SizeProbe}, or {@code -1} if the size is not known. The sizes of the entities of the standard providers are
+   * returned by {@link javax.ws.rs.ext.MessageBodyWriter#getSize(Object,Class,Type,Annotation[],MediaType)} of the providers
+   * themselves.
+   *
+   * @param entity The entity.
+   * @param type The class of the entity.
+   * @param genericType The generic type of the entity.
+   * @param annotations The annotations of the entity.
+   * @param mediaType The media type of the entity.
+   * @return The number of bytes of the specified entity, or {@code -1} if the size is not known.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static long getSize(final Object entity, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) throws IOException {
+    for (final SizeProbe probe : probes) { // [A]
+      final long size = probe.getSize(entity, type, genericType, annotations, mediaType);
+      if (size >= 0)
+        return size;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the number of bytes of the specified {@link String} encoded in the specified {@link Charset}, which is computed without
+   * encoding the {@link String} for {@link StandardCharsets#UTF_8 UTF-8} and single-byte charsets.
+   *
+   * @param str The {@link String}.
+   * @param charset The {@link Charset}.
+   * @return The number of bytes of the specified {@link String} encoded in the specified {@link Charset}.
+   */
+  public static long getSize(final String str, final Charset charset) {
+    if (StandardCharsets.UTF_8.equals(charset))
+      return getUtf8Size(str);
+
+    if (StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset))
+      return str.length();
+
+    return str.getBytes(charset).length;
+  }
+
+  private static long getUtf8Size(final String str) {
+    final int len = str.length();
+    long size = len;
+    for (int i = 0; i < len; ++i) { // [N]
+      final char ch = str.charAt(i);
+      if (ch < 0x80)
+        continue;
+
+      if (ch < 0x800) {
+        ++size;
+      }
+      else if (Character.isHighSurrogate(ch) && i + 1 < len && Character.isLowSurrogate(str.charAt(i + 1))) {
+        // A surrogate pair of 2 chars is encoded in 4 bytes
+        size += 2;
+        ++i;
+      }
+      else if (!Character.isSurrogate(ch)) {
+        size += 2;
+      }
+      // A lone surrogate is replaced with a single '?' byte
+    }
+
+    return size;
+  }
+
+  private SizeProbes() {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Declares that the result of {@link MessageBodyReader#isReadable(Class,Type,java.lang.annotation.Annotation[],MediaType)} or
+ * {@link MessageBodyWriter#isWriteable(Class,Type,java.lang.annotation.Annotation[],MediaType)} of the annotated provider is
+ * determined by its arguments alone, and does not depend on the state of the provider or of the request. The selection of a
+ * {@link MessageBodyReader} or {@link MessageBodyWriter} for an entity type can only be cached if every provider that is consulted
+ * before the selected provider is annotated with {@link TypeDeterministic}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TypeDeterministic {
+}
@@ -31,11 +31,13 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.TEXT_PLAIN)
 @Produces(MediaType.TEXT_PLAIN)
 public class BooleanProvider extends MessageBodyProvider<Boolean> {
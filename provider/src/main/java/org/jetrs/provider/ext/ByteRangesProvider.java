@@ -0,0 +1,58 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs.provider.ext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.inject.Singleton;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.jetrs.ByteRanges;
+import org.jetrs.TypeDeterministic;
+
+/**
+ * Writer of the body of a {@code 206 Partial Content} response [RFC 7233 4.1].
+ */
+@Singleton
+@TypeDeterministic
+@Produces(MediaType.WILDCARD)
+public class ByteRangesProvider implements MessageBodyWriter<ByteRanges> {
+  @Override
+  public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+    return type == ByteRanges.class;
+  }
+
+  @Override
+  public long getSize(final ByteRanges t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+    return t.getContentLength();
+  }
+
+  @Override
+  public void writeTo(final ByteRanges t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String,Object> httpHeaders, final OutputStream entityStream) throws IOException, WebApplicationException {
+    httpHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, t.getContentLength());
+    t.writeTo(entityStream);
+    entityStream.flush();
+  }
+}
\ No newline at end of file
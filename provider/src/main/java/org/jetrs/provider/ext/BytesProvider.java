@@ -31,12 +31,14 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 import org.libj.io.Streams;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class BytesProvider extends MessageBodyProvider<byte[]> {
@@ -62,7 +64,7 @@ public class BytesProvider extends MessageBodyProvider<byte[]> {
 
   @Override
   public long getSize(final byte[] t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
-    return -1;
+    return t.length;
   }
 
   @Override
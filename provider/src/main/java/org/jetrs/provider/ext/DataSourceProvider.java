@@ -39,6 +39,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 import org.libj.io.Streams;
 import org.libj.lang.ObjectUtil;
 
@@ -46,6 +47,7 @@ import org.libj.lang.ObjectUtil;
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class DataSourceProvider extends MessageBodyProvider<DataSource> {
@@ -23,104 +23,58 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
+import org.jetrs.EntityChannels;
+import org.jetrs.MappedFileCache;
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class FileProvider extends MessageBodyProvider<File> {
-  long writeTo(final String range, final File file, final OutputStream out) throws IOException {
-    final String rangeString;
-    final int start;
-    if (range == null || (rangeString = String.valueOf(range).trim()).length() == 0 || (start = rangeString.indexOf("bytes=")) == -1) {
-      final long len = file.length();
-      final long copied = Files.copy(file.toPath(), out);
-      if (len != copied)
-        throw new IOException("Only " + copied + " of " + len + " bytes were written for: " + file.getName());
-
-      return len;
-    }
-
-    try (final RandomAccessFile raf = new RandomAccessFile(file, "r")) {
-      return parseRange(rangeString, start + 6, raf, out);
-    }
-  }
-
-  private long parseRange(final String range, int i, final RandomAccessFile raf, final OutputStream out) throws IOException {
-    final StringBuilder builder = new StringBuilder();
-    long from = Long.MIN_VALUE;
-    long to = Long.MAX_VALUE;
-    final int len = range.length();
-    long total = 0;
-    for (char ch; i <= len; ++i) { // [N]
-      if (i == len || (ch = range.charAt(i)) == ',') {
-        if (builder.length() > 0) {
-          if (from != Long.MIN_VALUE)
-            to = Long.parseLong(builder.toString());
-          else
-            from = -Long.parseLong(builder.toString());
-        }
-
-        if (from <= to && (from != Long.MIN_VALUE || to != Long.MAX_VALUE)) {
-          write(raf, out, from, to);
-          total += to - from;
-        }
-
-        from = Long.MIN_VALUE;
-        to = Long.MAX_VALUE;
-        builder.setLength(0);
-      }
-      else if (ch == '-') {
-        if (from != Long.MIN_VALUE) {
-          to = Long.parseLong(builder.toString());
-          builder.setLength(0);
-        }
-        else if (builder.length() > 0) {
-          from = Long.parseLong(builder.toString());
-          builder.setLength(0);
-        }
-      }
-      else if (Character.isDigit(ch)) {
-        builder.append(ch);
-      }
-      else if (ch != ' ') {
-        break;
-      }
-    }
-
-    return total;
-  }
-
+  /**
+   * Writes the bytes of the specified {@link RandomAccessFile} from {@code from} to the specified {@link OutputStream}, as per the
+   * arithmetic of the former {@code Range} handling of this provider: a negative {@code from} writes the last {@code -from} bytes, and
+   * otherwise {@code to} bytes are written from {@code from}, or all remaining bytes if {@code to} is {@link Long#MAX_VALUE}.
+   *
+   * @param raf The {@link RandomAccessFile}.
+   * @param out The {@link OutputStream}.
+   * @param from The start of the range, or the negated length of a suffix range.
+   * @param to The length of the range, or {@link Long#MAX_VALUE} for all remaining bytes.
+   * @throws IOException If an I/O error has occurred.
+   * @deprecated This method is no longer invoked by this provider, as ranges are served by {@link ByteRangesProvider}, and files are
+   *             transferred with {@link EntityChannels#transfer(FileChannel,long,long,OutputStream)}.
+   */
+  @Deprecated
   protected void write(final RandomAccessFile raf, final OutputStream out, final long from, final long to) throws IOException {
+    final long position;
     final long len;
     if (from < 0) {
-      raf.seek(raf.length() + from);
+      position = raf.length() + from;
       len = -from;
     }
     else {
-      raf.seek(from);
+      position = from;
       len = to == Long.MAX_VALUE ? raf.length() - from : to;
     }
 
-    for (int i = 0; i < len; ++i) // [N]
-      out.write(raf.read());
+    EntityChannels.transfer(raf.getChannel(), position, len, out);
   }
 
-  @Context
-  private HttpHeaders requestHeaders;
-
   @Override
   public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
     return File.class.isAssignableFrom(type);
@@ -140,13 +94,36 @@ public class FileProvider extends MessageBodyProvider<File> {
 
   @Override
   public long getSize(final File t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
-    return -1;
+    return t.length();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Ranges requested by the {@code Range} header are served by {@link ByteRangesProvider}. If the {@link MappedFileCache} is enabled,
+   * the file is written from its memory-mapped region.
+   */
   @Override
   public void writeTo(final File t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String,Object> httpHeaders, final OutputStream entityStream) throws IOException {
-    final String range = requestHeaders.getRequestHeaders().getFirst("Range");
-    writeTo(range, t, entityStream);
+    // Setting the Content-Length before the first write lets the entity be written directly to the container, unbuffered
+    final MappedFileCache.Region region = MappedFileCache.getInstance().acquire(t);
+    if (region != null) {
+      try {
+        httpHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, region.length());
+        region.writeTo(0, region.length(), entityStream);
+      }
+      finally {
+        region.release();
+      }
+    }
+    else {
+      try (final FileChannel channel = FileChannel.open(t.toPath(), StandardOpenOption.READ)) {
+        final long len = t.length();
+        httpHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, len);
+        EntityChannels.transfer(channel, 0, len, entityStream);
+      }
+    }
+
     entityStream.flush();
   }
 }
\ No newline at end of file
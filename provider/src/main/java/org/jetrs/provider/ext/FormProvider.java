@@ -33,11 +33,13 @@ import javax.ws.rs.core.MultivaluedMap;
 import org.jetrs.EntityUtil;
 import org.jetrs.MediaTypes;
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Produces(MediaType.APPLICATION_FORM_URLENCODED)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 public class FormProvider extends MessageBodyProvider<Form> {
@@ -30,12 +30,14 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 import org.libj.io.Streams;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class InputStreamProvider extends MessageBodyProvider<InputStream> {
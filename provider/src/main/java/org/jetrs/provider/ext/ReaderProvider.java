@@ -33,12 +33,14 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 import org.libj.io.ReaderInputStream;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class ReaderProvider extends MessageBodyProvider<Reader> {
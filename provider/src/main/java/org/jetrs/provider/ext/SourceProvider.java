@@ -35,11 +35,13 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.TypeDeterministic;
 
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes({"application/*+xml", "text/xml"})
 @Produces({"application/*+xml", "text/xml"})
 public class SourceProvider extends MessageBodyProvider<Source> {
@@ -29,10 +29,13 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.MessageBodyWriter;
 
+import org.jetrs.TypeDeterministic;
+
 /**
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Produces(MediaType.WILDCARD)
 public class StreamingOutputProvider implements MessageBodyWriter<StreamingOutput> {
   @Override
@@ -36,6 +36,8 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import org.jetrs.CommonProperties;
 import org.jetrs.MessageBodyProvider;
+import org.jetrs.SizeProbes;
+import org.jetrs.TypeDeterministic;
 import org.libj.io.Readers;
 import org.libj.lang.Systems;
 
@@ -43,6 +45,7 @@ import org.libj.lang.Systems;
  * JAX-RS 2.1 Section 4.2.4
  */
 @Singleton
+@TypeDeterministic
 @Consumes(MediaType.WILDCARD)
 @Produces(MediaType.WILDCARD)
 public class StringProvider extends MessageBodyProvider<String> {
@@ -66,7 +69,7 @@ public class StringProvider extends MessageBodyProvider<String> {
 
   @Override
   public long getSize(final String t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
-    return -1;
+    return SizeProbes.getSize(t, MessageBodyProvider.getCharset(mediaType));
   }
 
   @Override
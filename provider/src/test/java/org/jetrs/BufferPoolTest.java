@@ -0,0 +1,72 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class BufferPoolTest {
+  @Test
+  public void testDisabled() {
+    final BufferPool pool = new BufferPool(0, 8192, false);
+    assertFalse(pool.isEnabled());
+    final byte[] buffer = pool.acquire(100);
+    assertEquals(100, buffer.length);
+    pool.release(buffer);
+    assertEquals(1, pool.getDiscardCount());
+    assertNotSame(buffer, pool.acquire(100));
+  }
+
+  @Test
+  public void testSizeClasses() {
+    final BufferPool pool = new BufferPool(4, 8192, false);
+    assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(1).length);
+    assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(BufferPool.MIN_BUFFER_SIZE).length);
+    assertEquals(BufferPool.MIN_BUFFER_SIZE * 2, pool.acquire(BufferPool.MIN_BUFFER_SIZE + 1).length);
+    assertEquals(8192, pool.acquire(5000).length);
+    assertEquals(8193, pool.acquire(8193).length);
+    assertEquals(5, pool.getAllocationCount());
+  }
+
+  @Test
+  public void testReuse() {
+    final BufferPool pool = new BufferPool(1, 8192, false);
+    final byte[] buffer = pool.acquire(8192);
+    pool.release(buffer);
+    pool.release(new byte[8192]); // The cache of the size class is full
+    pool.release(new byte[1000]); // Not of a size class
+    assertEquals(2, pool.getDiscardCount());
+
+    assertSame(buffer, pool.acquire(5000));
+    assertEquals(1, pool.getHitCount());
+    assertEquals(0.5, pool.getHitRate(), 0);
+  }
+
+  @Test
+  public void testLeak() throws InterruptedException {
+    final BufferPool pool = new BufferPool(4, 8192, true);
+    pool.track(new Object()).close();
+    pool.track(new Object());
+    for (int i = 0; i < 100 && pool.getLeakCount() == 0; ++i) { // [N]
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertEquals(1, pool.getLeakCount());
+  }
+}
\ No newline at end of file
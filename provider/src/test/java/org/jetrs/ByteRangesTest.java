@@ -0,0 +1,129 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+public class ByteRangesTest {
+  private static final byte[] bytes = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+
+  private static void assertRanges(final long[] expected, final String range, final long length) {
+    assertArrayEquals(range, expected, ByteRanges.parse(range, length));
+  }
+
+  private static String write(final Object entity, final String range, final String contentType) throws IOException {
+    final ByteRanges byteRanges = new ByteRanges(entity, bytes.length, ByteRanges.parse(range, bytes.length), contentType);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byteRanges.writeTo(out);
+    assertEquals(byteRanges.getContentLength(), out.size());
+    return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+  }
+
+  @Test
+  public void testIgnored() {
+    assertRanges(null, "bytes", 10000);
+    assertRanges(null, "bytes=", 10000);
+    assertRanges(null, "bytes=-", 10000);
+    assertRanges(null, "bytes=-,", 10000);
+    assertRanges(null, "bytes=,-", 10000);
+    assertRanges(null, "bytes=,-,", 10000);
+    assertRanges(null, "bytes=,s-f,", 10000);
+    assertRanges(null, "bytes=499-0", 10000);
+    assertRanges(null, "items=0-499", 10000);
+    assertRanges(null, "bytes=0-1,3", 10000);
+  }
+
+  @Test
+  public void testRange() {
+    assertRanges(new long[] {0, 499}, "bytes=0-499", 10000);
+    assertRanges(new long[] {500, 999}, "bytes=500 - 999", 10000);
+    assertRanges(new long[] {9500, 9999}, "bytes=- 500", 10000);
+    assertRanges(new long[] {9500, 9999}, "bytes=9500 -", 10000);
+    assertRanges(new long[] {0, 9999}, "Bytes=0- ", 10000);
+    assertRanges(new long[] {0, 0, 9999, 9999}, "bytes= 0-0,-1", 10000);
+    assertRanges(new long[] {9000, 9999}, "bytes=9000-20000", 10000);
+    assertRanges(new long[] {0, 9999}, "bytes=-20000", 10000);
+  }
+
+  @Test
+  public void testCoalesce() {
+    assertRanges(new long[] {500, 999}, "bytes=500 -600,601-999 ", 10000);
+    assertRanges(new long[] {500, 999}, "bytes=500- 700, 601-999", 10000);
+    assertRanges(new long[] {500, 700}, "bytes=500- 700, 550-600, 550-600", 10000);
+    assertRanges(new long[] {0, 9, 500, 700}, "bytes=550-600,500-700,0-9", 10000);
+  }
+
+  @Test
+  public void testUnsatisfiable() {
+    assertSame(ByteRanges.UNSATISFIABLE, ByteRanges.parse("bytes=10000-", 10000));
+    assertSame(ByteRanges.UNSATISFIABLE, ByteRanges.parse("bytes=-0", 10000));
+    assertSame(ByteRanges.UNSATISFIABLE, ByteRanges.parse("bytes=0-", 0));
+    assertRanges(new long[] {0, 9}, "bytes=20000-,0-9", 10000);
+  }
+
+  @Test
+  public void testTooManyRanges() {
+    final StringBuilder builder = new StringBuilder("bytes=");
+    for (int i = 0; i <= ByteRanges.MAX_RANGES; ++i) // [N]
+      builder.append(i * 2).append('-').append(i * 2).append(',');
+
+    assertNull(ByteRanges.parse(builder.toString(), 10000));
+  }
+
+  @Test
+  public void testIfRange() throws IOException {
+    assertTrue(ByteRanges.isIfRangeSatisfied("\"abc\"", "\"abc\"", null, bytes));
+    assertFalse(ByteRanges.isIfRangeSatisfied("\"abc\"", "W/\"abc\"", null, bytes));
+    assertFalse(ByteRanges.isIfRangeSatisfied("W/\"abc\"", "W/\"abc\"", null, bytes));
+    assertFalse(ByteRanges.isIfRangeSatisfied("\"abc\"", null, null, bytes));
+    assertTrue(ByteRanges.isIfRangeSatisfied("Sun, 06 Nov 1994 08:49:37 GMT", null, "Sun, 06 Nov 1994 08:49:37 GMT", bytes));
+    assertFalse(ByteRanges.isIfRangeSatisfied("Sun, 06 Nov 1994 08:49:37 GMT", null, "Sun, 06 Nov 1994 08:49:38 GMT", bytes));
+    assertFalse(ByteRanges.isIfRangeSatisfied("Sun, 06 Nov 1994 08:49:37 GMT", null, null, bytes));
+  }
+
+  @Test
+  public void testWriteSingle() throws IOException {
+    assertEquals("abc", write(bytes, "bytes=10-12", null));
+    assertEquals("xyz", write(bytes, "bytes=-3", "text/plain"));
+  }
+
+  @Test
+  public void testWriteMultipart() throws IOException {
+    final File file = Files.createTempFile("jetrs", null).toFile();
+    file.deleteOnExit();
+    Files.write(file.toPath(), bytes);
+
+    final ByteRanges byteRanges = new ByteRanges(file, bytes.length, ByteRanges.parse("bytes=-2,0-1", bytes.length), "text/plain");
+    assertTrue(byteRanges.isMultipart());
+    final String contentType = byteRanges.getMultipartContentType();
+    final String boundary = contentType.substring(contentType.indexOf("boundary=") + 9);
+    final String expected = "--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-1/36\r\n\r\n01\r\n--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 34-35/36\r\n\r\nyz\r\n--" + boundary + "--\r\n";
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byteRanges.writeTo(out);
+    assertEquals(expected, new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    assertEquals(expected.length(), byteRanges.getContentLength());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class FormParametersTest {
+  private static FormParameters read(final String form) throws IOException {
+    return FormParameters.read(new ByteArrayInputStream(form.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testEncoded() throws IOException {
+    final UnmodifiableMultivaluedArrayHashMap<String,String> encoded = read("a+b=1&a%20b=2&c=%C3%A9").get(false);
+    assertEquals(3, encoded.size());
+    assertEquals(Arrays.asList("1"), encoded.get("a+b"));
+    assertEquals(Arrays.asList("2"), encoded.get("a%20b"));
+    assertEquals(Arrays.asList("%C3%A9"), encoded.get("c"));
+  }
+
+  @Test
+  public void testDecoded() throws IOException {
+    final UnmodifiableMultivaluedArrayHashMap<String,String> decoded = read("a=x+y&b=1&b=2&c=%C3%A9").get(true);
+    assertEquals(3, decoded.size());
+    assertEquals(Arrays.asList("x y"), decoded.get("a"));
+    assertEquals(Arrays.asList("1", "2"), decoded.get("b"));
+    assertEquals(Arrays.asList("\u00e9"), decoded.get("c"));
+  }
+
+  @Test
+  public void testDecodedKeyCollision() throws IOException {
+    final FormParameters formParameters = read("a+b=1&a%20b=2");
+    final UnmodifiableMultivaluedArrayHashMap<String,String> decoded = formParameters.get(true);
+    assertEquals(1, decoded.size());
+    final List<String> values = decoded.get("a b");
+    assertEquals(2, values.size());
+    assertTrue(values.containsAll(Arrays.asList("1", "2")));
+    assertArrayEquals(values.toArray(), formParameters.getStringArrayMap().get("a b"));
+  }
+
+  @Test
+  public void testReuse() throws IOException {
+    final FormParameters formParameters = read("a=1&b=2");
+    assertSame(formParameters.get(false), formParameters.get(false));
+    assertSame(formParameters.get(true), formParameters.get(true));
+    assertSame(formParameters.getStringArrayMap(), formParameters.getStringArrayMap());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiable() throws IOException {
+    read("a=1").get(true).add("b", "2");
+  }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+public class FormParserTest {
+  private static MultivaluedArrayHashMap<String,String> parse(final byte[] form, final Charset charset, final boolean decode, final int maxFormKeys, final int maxFormContentSize) throws IOException {
+    final MultivaluedArrayHashMap<String,String> map = new MultivaluedArrayHashMap<>();
+    FormParser.parse(new ByteArrayInputStream(form), charset, decode, maxFormKeys, maxFormContentSize, map);
+    return map;
+  }
+
+  private static MultivaluedArrayHashMap<String,String> parse(final String form, final boolean decode, final int maxFormKeys, final int maxFormContentSize) throws IOException {
+    return parse(form.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, decode, maxFormKeys, maxFormContentSize);
+  }
+
+  @Test
+  public void testEncoded() throws IOException {
+    final MultivaluedArrayHashMap<String,String> map = parse("a=1+2&b=%C3%A9&a=x%3Dy&c&&d=", false, -1, -1);
+    assertEquals(Arrays.asList("1+2", "x%3Dy"), map.get("a"));
+    assertEquals(Arrays.asList("%C3%A9"), map.get("b"));
+    assertEquals(Arrays.asList(""), map.get("c"));
+    assertEquals(Arrays.asList(""), map.get("d"));
+    assertEquals(4, map.size());
+  }
+
+  @Test
+  public void testDecoded() throws IOException {
+    final MultivaluedArrayHashMap<String,String> map = parse("a=1+2&b=%C3%A9&a=x%3Dy&k%3D=v=w", true, -1, -1);
+    assertEquals(Arrays.asList("1 2", "x=y"), map.get("a"));
+    assertEquals(Arrays.asList("\u00e9"), map.get("b"));
+    assertEquals(Arrays.asList("v=w"), map.get("k="));
+  }
+
+  @Test
+  public void testInterned() throws IOException {
+    final String key1 = parse("item=1", true, -1, -1).keySet().iterator().next();
+    final String key2 = parse("item=2", false, -1, -1).keySet().iterator().next();
+    assertSame(key1, key2);
+  }
+
+  @Test
+  public void testLimits() throws IOException {
+    assertEquals(2, parse("a=1&b=2&a=3", true, 2, 11).size());
+    try {
+      parse("a=1&b=2&c=3", true, 2, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+
+    try {
+      parse("a=1&b=2&c=3", true, -1, 10);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+  }
+
+  @Test
+  public void testInvalidEscape() throws IOException {
+    assertEquals(Arrays.asList("%zz"), parse("a=%zz", false, -1, -1).get("a"));
+    try {
+      parse("a=%zz", true, -1, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+
+    try {
+      parse("a=%2", true, -1, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+  }
+
+  @Test
+  public void testMalformed() throws IOException {
+    final byte[] form = {'a', '=', (byte)0xe9};
+    assertEquals(Arrays.asList("\u00e9"), parse(form, StandardCharsets.ISO_8859_1, true, -1, -1).get("a"));
+    try {
+      parse(form, StandardCharsets.UTF_8, true, -1, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+
+    try {
+      parse("a=%C3", true, -1, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+
+    try {
+      parse("%C3=a", true, -1, -1);
+      fail("Expected BadRequestException");
+    }
+    catch (final BadRequestException e) {
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class MappedFileCacheTest {
+  private static File newFile(final int length) throws IOException {
+    final File file = Files.createTempFile("jetrs", null).toFile();
+    file.deleteOnExit();
+    final byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte)'a');
+    Files.write(file.toPath(), bytes);
+    return file;
+  }
+
+  private static byte[] write(final MappedFileCache.Region region, final long position, final long count) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    region.writeTo(position, count, out);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testDisabled() throws IOException {
+    assertNull(new MappedFileCache(0, 0).acquire(newFile(10)));
+  }
+
+  @Test
+  public void testMinFileSize() throws IOException {
+    final MappedFileCache cache = new MappedFileCache(1000, 100);
+    assertNull(cache.acquire(newFile(99)));
+    assertNull(cache.acquire(newFile(1001)));
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void testHit() throws IOException {
+    final MappedFileCache cache = new MappedFileCache(1000, 0);
+    final File file = newFile(100);
+    final MappedFileCache.Region region = cache.acquire(file);
+    assertEquals(100, region.length());
+    assertEquals(10, write(region, 90, 10).length);
+    region.release();
+
+    final MappedFileCache.Region cached = cache.acquire(file);
+    assertSame(region, cached);
+    cached.release();
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate(), 0);
+    assertEquals(100, cache.getCachedBytes());
+    assertEquals(100, cache.getRetainedBytes());
+  }
+
+  @Test
+  public void testModified() throws IOException {
+    final MappedFileCache cache = new MappedFileCache(1000, 0);
+    final File file = newFile(100);
+    final MappedFileCache.Region region = cache.acquire(file);
+    Files.write(file.toPath(), new byte[50]);
+
+    final MappedFileCache.Region remapped = cache.acquire(file);
+    assertNotSame(region, remapped);
+    assertEquals(50, remapped.length());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(50, cache.getCachedBytes());
+    assertEquals(150, cache.getRetainedBytes());
+
+    region.release();
+    remapped.release();
+    assertEquals(50, cache.getRetainedBytes());
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    final MappedFileCache cache = new MappedFileCache(250, 0);
+    final File file1 = newFile(100);
+    final File file2 = newFile(100);
+    cache.acquire(file1).release();
+    final MappedFileCache.Region region2 = cache.acquire(file2);
+    cache.acquire(file1).release();
+
+    cache.acquire(newFile(100)).release();
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(200, cache.getCachedBytes());
+    assertEquals(300, cache.getRetainedBytes());
+
+    assertEquals(100, write(region2, 0, 100).length);
+    region2.release();
+    assertEquals(200, cache.getRetainedBytes());
+  }
+}
\ No newline at end of file
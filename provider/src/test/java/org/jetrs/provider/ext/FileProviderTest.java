@@ -18,65 +18,43 @@ package org.jetrs.provider.ext;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.RandomAccessFile;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
 
 import org.junit.Test;
 
 public class FileProviderTest {
   private static final File thisClassResource = new File(FileProviderTest.class.getProtectionDomain().getCodeSource().getLocation().getFile() + "/" + FileProviderTest.class.getName().replace('.', '/').concat(".class"));
 
-  private static void testRange(final long[][] expected, final String range) throws IOException {
-    final AtomicInteger index = new AtomicInteger();
-    final FileProvider fileProvider = new FileProvider() {
-      @Override
-      protected void write(RandomAccessFile raf, OutputStream out, long from, long to) throws IOException {
-        final long[] exp = expected[index.getAndIncrement()];
-        assertEquals(exp[0], from);
-        System.err.print(from);
-        if (to != Long.MAX_VALUE) {
-          System.err.print(" " + to);
-          assertEquals(exp[1], to);
-        }
-
-        System.err.println();
-      }
-    };
-
-    fileProvider.writeTo(range, thisClassResource, new OutputStream() {
-      @Override
-      public void write(final int b) {
-      }
-    });
-
-    assertEquals(expected != null ? expected.length : 0, index.get());
-  }
-
   @Test
-  public void testNullRange() throws IOException {
-    testRange(null, null);
-    testRange(null, "bytes=");
-    testRange(null, "bytes=-");
-    testRange(null, "bytes=-,");
-    testRange(null, "bytes=,-");
-    testRange(null, "bytes=,-,");
-    testRange(null, "bytes=,s-f,");
-    testRange(null, "bytes=499-0");
+  public void testWriteTo() throws IOException {
+    final MultivaluedMap<String,Object> httpHeaders = new MultivaluedHashMap<>();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new FileProvider().writeTo(thisClassResource, File.class, File.class, null, null, httpHeaders, out);
+    assertEquals(thisClassResource.length(), httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH));
+    assertArrayEquals(Files.readAllBytes(thisClassResource.toPath()), out.toByteArray());
   }
 
   @Test
-  public void testRange() throws IOException {
-    testRange(new long[][] {new long[] {0, 499}}, "bytes=0-499");
-    testRange(new long[][] {new long[] {500, 999}}, "bytes=500 - 999");
-    testRange(new long[][] {new long[] {-500}}, "bytes=- 500");
-    testRange(new long[][] {new long[] {9500}}, "bytes=9500 -");
-    testRange(new long[][] {new long[] {0}}, "bytes=0- ");
-    testRange(new long[][] {new long[] {0, 0}, new long[] {-1}}, "bytes= 0-0,-1");
-    testRange(new long[][] {new long[] {500, 600}, new long[] {601, 999}}, "bytes=500 -600,601-999 ");
-    testRange(new long[][] {new long[] {500, 700}, new long[] {601, 999}}, "bytes=500- 700, 601-999");
-    testRange(new long[][] {new long[] {500, 700}, new long[] {550, 600}, new long[] {550, 600}}, "bytes=500- 700, 550-600, 550-600");
+  @SuppressWarnings("deprecation")
+  public void testDeprecatedWrite() throws IOException {
+    final byte[] bytes = Files.readAllBytes(thisClassResource.toPath());
+    try (final RandomAccessFile raf = new RandomAccessFile(thisClassResource, "r")) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      new FileProvider().write(raf, out, 0, Long.MAX_VALUE);
+      assertArrayEquals(bytes, out.toByteArray());
+
+      out.reset();
+      new FileProvider().write(raf, out, -10, Long.MAX_VALUE);
+      assertArrayEquals(Arrays.copyOfRange(bytes, bytes.length - 10, bytes.length), out.toByteArray());
+    }
   }
 }
\ No newline at end of file
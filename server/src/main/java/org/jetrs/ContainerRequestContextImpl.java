@@ -24,8 +24,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.net.URI;
@@ -36,7 +34,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.RandomAccess;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 import javax.servlet.ServletConfig;
@@ -50,9 +48,6 @@ import javax.ws.rs.HeaderParam;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.InternalServerErrorException;
 import javax.ws.rs.MatrixParam;
-import javax.ws.rs.NotAcceptableException;
-import javax.ws.rs.NotAllowedException;
-import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
@@ -78,7 +73,6 @@ import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.ParamConverterProvider;
-import javax.ws.rs.ext.Providers;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.ReaderInterceptorContext;
 
@@ -92,6 +86,7 @@ import org.slf4j.LoggerFactory;
 
 class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,HttpServletRequest> implements ContainerRequestContext, ReaderInterceptorContext {
   private static final Logger logger = LoggerFactory.getLogger(ContainerRequestContextImpl.class);
+  private static final Object[] EMPTY_ARGUMENTS = {};
 
   enum Stage {
     REQUEST_FILTER_PRE_MATCH,
@@ -140,7 +135,7 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
   private HttpServletResponse httpServletResponse;
   private ContainerResponseContextImpl containerResponseContext;
 
-  private ArrayList<ResourceInfoImpl> resourceInfos;
+  private ResourceInfos resourceInfos;
 
   private ResourceMatches resourceMatches;
   private ResourceMatch resourceMatch;
@@ -318,24 +313,25 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     return super.findInjectableContextValue(clazz);
   }
 
-  final Object invokeMethod(final Object obj) throws IllegalAccessException, InvocationTargetException, IOException {
-    final Method resourceMethod = resourceInfo.getResourceMethod();
-    if (resourceInfo.getParameterCount() == 0)
-      return resourceMethod.invoke(obj);
+  final Object invokeMethod(final Object obj) throws Throwable {
+    final ResourceInvoker invoker = resourceInfo.getInvoker();
+    final ParamBinder[] paramBinders = resourceInfo.getParamBinders();
+    final int len = paramBinders.length;
+    if (len == 0)
+      return invoker.invoke(obj, EMPTY_ARGUMENTS);
 
-    final Parameter[] parameters = resourceInfo.getMethodParameters();
-    final Class<?>[] parameterTypes = resourceInfo.getMethodParameterTypes();
-    final Type[] genericParameterTypes = resourceInfo.getMethodGenericParameterTypes();
-    final Annotation[][] parameterAnnotations = resourceInfo.getMethodParameterAnnotations();
-    final int len = parameters.length;
     final Object[] arguments = new Object[len];
     for (int i = 0; i < len; ++i) { // [A]
-      final Object arg = arguments[i] = findInjectableValueFromCache(parameters[i], i, parameterAnnotations[i], parameterTypes[i], genericParameterTypes[i]);
+      final ParamBinder paramBinder = paramBinders[i];
+      final Object arg = arguments[i] = paramBinder.bind(this);
       if (arg instanceof Exception)
         throw new BadRequestException((Exception)arg);
+
+      if (arg == null && paramBinder.rawType.isPrimitive())
+        throw new IllegalArgumentException("null cannot be assigned to parameter " + i + " of primitive type " + paramBinder.rawType.getName() + " of " + resourceInfo.getResourceMethod());
     }
 
-    return resourceMethod.invoke(obj, arguments);
+    return invoker.invoke(obj, arguments);
   }
 
   @Override
@@ -399,266 +395,292 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     throw new BadRequestException("Invalid header value: " + headerName + ": " + headerStringValues.get(0)); // [JAX-RS 2.1 3.2]
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Returns whether a {@link CookieParam} of the specified type is bound to the full {@code name=value} of the cookie, rather than
+   * just to its {@code value}.
+   */
+  static boolean isCookieType(final Class<?> rawType, final Type genericType) {
+    return rawType == Cookie.class || rawType.isArray() && rawType.getComponentType() == Cookie.class || Collection.class.isAssignableFrom(rawType) && DefaultParamConverterProvider.getGenericClassArgument(genericType) == Cookie.class;
+  }
+
+  /**
+   * Returns the member class of the specified {@link ParamPlurality}, or {@code null} if {@code paramPlurality} is not
+   * {@link ParamPlurality#COLLECTION} or {@link ParamPlurality#ARRAY}.
+   */
+  static Class<?> getMemberClass(final ParamPlurality<?> paramPlurality, final Class<?> rawType, final Type genericType) {
+    return paramPlurality == ParamPlurality.COLLECTION || paramPlurality == ParamPlurality.ARRAY ? paramPlurality.getMemberClass(rawType, genericType) : null;
+  }
+
   private Object getParamObject(final AnnotatedElement element, final int parameterIndex, final Annotation annotation, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
     final Class<? extends Annotation> annotationType = annotation.annotationType();
-    if (annotationType == CookieParam.class) {
-      final List<String> cookies = getHttpHeaders().get(COOKIE);
-      final int size;
-      String firstValue = null;
-      if (cookies != null && (size = cookies.size()) > 0) {
-        assert(CollectionUtil.isRandomAccess(cookies));
-        for (int i = 0; i < size; ++i) { // [RA]
-          final String cookie = cookies.get(i);
-          final int index = cookie.indexOf('=');
-          if (index > -1 && cookie.regionMatches(0, ((CookieParam)annotation).value(), 0, index)) {
-            // Special case for String rawType, because in this case only the `value` of `name=value` is desired
-            firstValue = rawType == Cookie.class || rawType.isArray() && rawType.getComponentType() == Cookie.class || Collection.class.isAssignableFrom(rawType) && DefaultParamConverterProvider.getGenericClassArgument(genericType) == Cookie.class ? cookie : cookie.substring(index + 1);
-            break;
-          }
-        }
-      }
+    if (annotationType == CookieParam.class)
+      return getCookieParam(((CookieParam)annotation).value(), isCookieType(rawType, genericType), ParamPlurality.fromClass(rawType), getDefaultValue(element, parameterIndex), annotations, rawType, genericType);
 
+    if (annotationType == HeaderParam.class) {
       final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
-      if (firstValue == null) {
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue == null)
-          return paramPlurality.getNullValue(rawType);
+      return getHeaderParam(((HeaderParam)annotation).value(), paramPlurality, getMemberClass(paramPlurality, rawType, genericType), getDefaultValue(element, parameterIndex), parameterIndex, annotations, rawType, genericType);
+    }
 
-        if (defaultValue.isConverted)
-          return defaultValue.convertedValue;
+    if (annotationType == FormParam.class)
+      return getFormParam(((FormParam)annotation).value(), EntityUtil.shouldDecode(annotations), ParamPlurality.fromClass(rawType), getDefaultValue(element, parameterIndex), annotations, rawType, genericType);
 
-        firstValue = defaultValue.annotatedValue;
-      }
+    if (annotationType == QueryParam.class)
+      return getQueryParam(((QueryParam)annotation).value(), EntityUtil.shouldDecode(annotations), ParamPlurality.fromClass(rawType), getDefaultValue(element, parameterIndex), annotations, rawType, genericType);
 
-      // FIXME: Param types other than `Cookie` still need to be implemented.
-      return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, null, false, components.getParamConverterComponents(), this);
+    if (annotationType == PathParam.class) {
+      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
+      return getPathParam(element, ((PathParam)annotation).value(), EntityUtil.shouldDecode(annotations), paramPlurality, getMemberClass(paramPlurality, rawType, genericType), getDefaultValue(element, parameterIndex), annotations, rawType, genericType);
     }
 
-    if (annotationType == HeaderParam.class) {
-      final String headerName = ((HeaderParam)annotation).value();
-      String firstValue = getHttpHeaders().getString(headerName);
+    if (annotationType == MatrixParam.class)
+      return getMatrixParam(((MatrixParam)annotation).value(), EntityUtil.shouldDecode(annotations), ParamPlurality.fromClass(rawType), getDefaultValue(element, parameterIndex), annotations, rawType, genericType);
 
-      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
-      if (firstValue == null) {
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue == null)
-          return paramPlurality.getNullValue(rawType);
-
-        if (defaultValue.isConverted)
-          return defaultValue.convertedValue;
+    throw new UnsupportedOperationException("Unsupported param annotation type: " + annotationType);
+  }
 
-        firstValue = defaultValue.annotatedValue;
+  Object getCookieParam(final String name, final boolean isCookieType, final ParamPlurality<?> paramPlurality, final DefaultValueImpl defaultValue, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    final List<String> cookies = getHttpHeaders().get(COOKIE);
+    final int size;
+    String firstValue = null;
+    if (cookies != null && (size = cookies.size()) > 0) {
+      assert(CollectionUtil.isRandomAccess(cookies));
+      for (int i = 0; i < size; ++i) { // [RA]
+        final String cookie = cookies.get(i);
+        final int index = cookie.indexOf('=');
+        if (index > -1 && cookie.regionMatches(0, name, 0, index)) {
+          // Special case for String rawType, because in this case only the `value` of `name=value` is desired
+          firstValue = isCookieType ? cookie : cookie.substring(index + 1);
+          break;
+        }
       }
+    }
 
-      final MirrorQualityList<String,Object> headerStringValues = getHttpHeaders().get(headerName);
-      if (paramPlurality == ParamPlurality.COLLECTION) {
-        final Class<?> componentType = paramPlurality.getMemberClass(annotationType, genericType);
-        final List<?> headerValues = getHeaderValues(componentType, headerStringValues, headerName);
-        // FIXME: Note this does not consider the generic type of the list -- should it try to do a conversion if the classes don't match?!
-        if (rawType.isAssignableFrom(MirrorQualityList.class))
-          return headerValues;
-
-        @SuppressWarnings("rawtypes")
-        final Collection list = ParamPlurality.COLLECTION.newContainer(rawType, parameterIndex);
-        list.addAll(headerValues);
-        return list;
-      }
+    if (firstValue == null) {
+      if (defaultValue == null)
+        return paramPlurality.getNullValue(rawType);
 
-      if (paramPlurality == ParamPlurality.ARRAY) {
-        // FIXME: Note this does not consider the generic type of the list -- should it try to do a conversion if the classes don't match?!
-        final Class<?> componentType = paramPlurality.getMemberClass(annotationType, genericType);
-        final List<?> headerValues = getHeaderValues(componentType, headerStringValues, headerName);
-        return headerValues.toArray((Object[])Array.newInstance(componentType, headerValues.size()));
-      }
+      if (defaultValue.isConverted)
+        return defaultValue.convertedValue;
+
+      firstValue = defaultValue.annotatedValue;
+    }
 
-      if (rawType == String.class)
-        return headerStringValues.get(0);
+    // FIXME: Param types other than `Cookie` still need to be implemented.
+    return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, null, false, components.getParamConverterComponents(), this);
+  }
 
-      final MirrorQualityList<Object,String> headerObjectValue = headerStringValues.getMirrorList();
-      final Object obj = headerObjectValue.get(0);
-      if (rawType.isInstance(obj))
-        return obj;
+  @SuppressWarnings("unchecked")
+  Object getHeaderParam(final String headerName, final ParamPlurality<?> paramPlurality, final Class<?> memberClass, final DefaultValueImpl defaultValue, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    String firstValue = getHttpHeaders().getString(headerName);
+    if (firstValue == null) {
+      if (defaultValue == null)
+        return paramPlurality.getNullValue(rawType);
 
-      final Object converted = DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, null, false, components.getParamConverterComponents(), this);
-      if (converted != null)
-        return converted;
+      if (defaultValue.isConverted)
+        return defaultValue.convertedValue;
 
-      throw new BadRequestException("Invalid header value: " + headerName + ": " + headerStringValues.get(0)); // [JAX-RS 2.1 3.2]
+      firstValue = defaultValue.annotatedValue;
     }
 
-    if (annotationType == FormParam.class) {
-      final InputStream entityStream = getEntityStream();
-      String firstValue = null;
-      List<String> values = null;
-      if (entityStream != null) {
-        final MultivaluedArrayMap<String,String> map = EntityUtil.readFormParams(entityStream, MediaTypes.getCharset(getMediaType()), EntityUtil.shouldDecode(annotations));
-        values = map.get(((FormParam)annotation).value());
-      }
+    final MirrorQualityList<String,Object> headerStringValues = getHttpHeaders().get(headerName);
+    if (paramPlurality == ParamPlurality.COLLECTION) {
+      final List<?> headerValues = getHeaderValues(memberClass, headerStringValues, headerName);
+      // FIXME: Note this does not consider the generic type of the list -- should it try to do a conversion if the classes don't match?!
+      if (rawType.isAssignableFrom(MirrorQualityList.class))
+        return headerValues;
+
+      @SuppressWarnings("rawtypes")
+      final Collection list = ParamPlurality.COLLECTION.newContainer(rawType, parameterIndex);
+      list.addAll(headerValues);
+      return list;
+    }
 
-      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
-      if (values == null) {
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue == null)
-          return paramPlurality.getNullValue(rawType);
+    if (paramPlurality == ParamPlurality.ARRAY) {
+      // FIXME: Note this does not consider the generic type of the list -- should it try to do a conversion if the classes don't match?!
+      final List<?> headerValues = getHeaderValues(memberClass, headerStringValues, headerName);
+      return headerValues.toArray((Object[])Array.newInstance(memberClass, headerValues.size()));
+    }
 
-        if (defaultValue.isConverted)
-          return defaultValue.convertedValue;
+    if (rawType == String.class)
+      return headerStringValues.get(0);
 
-        firstValue = defaultValue.annotatedValue;
-      }
+    final MirrorQualityList<Object,String> headerObjectValue = headerStringValues.getMirrorList();
+    final Object obj = headerObjectValue.get(0);
+    if (rawType.isInstance(obj))
+      return obj;
 
-      return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
+    final Object converted = DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, null, false, components.getParamConverterComponents(), this);
+    if (converted != null)
+      return converted;
+
+    throw new BadRequestException("Invalid header value: " + headerName + ": " + headerStringValues.get(0)); // [JAX-RS 2.1 3.2]
+  }
+
+  private FormParameters formParameters;
+
+  /**
+   * Returns the {@link FormParameters} of the entity, which is read at most once per request, or {@code null} if the request has no
+   * entity.
+   */
+  private FormParameters getFormParameters() throws IOException {
+    if (formParameters == null) {
+      final InputStream entityStream = getEntityStream();
+      if (entityStream != null)
+        formParameters = entityStream instanceof FormServletInputStream ? ((FormServletInputStream)entityStream).getFormParameters() : FormParameters.read(entityStream, MediaTypes.getCharset(getMediaType()));
     }
 
-    if (annotationType == QueryParam.class) {
-      final boolean decode = EntityUtil.shouldDecode(annotations);
-      List<String> values = getUriInfo().getQueryParameters(decode).get(((QueryParam)annotation).value());
-      String firstValue = null;
+    return formParameters;
+  }
 
-      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
-      if (values == null) {
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue == null)
-          return paramPlurality.getNullValue(rawType);
+  Object getFormParam(final String name, final boolean decode, final ParamPlurality<?> paramPlurality, final DefaultValueImpl defaultValue, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    final FormParameters formParameters = getFormParameters();
+    final List<String> values = formParameters != null ? formParameters.get(decode).get(name) : null;
+    String firstValue = null;
+    if (values == null) {
+      if (defaultValue == null)
+        return paramPlurality.getNullValue(rawType);
 
-        if (defaultValue.isConverted)
-          return defaultValue.convertedValue;
+      if (defaultValue.isConverted)
+        return defaultValue.convertedValue;
 
-        firstValue = defaultValue.annotatedValue;
-      }
+      firstValue = defaultValue.annotatedValue;
+    }
+
+    return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
+  }
+
+  Object getQueryParam(final String name, final boolean decode, final ParamPlurality<?> paramPlurality, final DefaultValueImpl defaultValue, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    final List<String> values = getUriInfo().getQueryParameters(decode).get(name);
+    String firstValue = null;
+    if (values == null) {
+      if (defaultValue == null)
+        return paramPlurality.getNullValue(rawType);
+
+      if (defaultValue.isConverted)
+        return defaultValue.convertedValue;
 
-      return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
+      firstValue = defaultValue.annotatedValue;
     }
 
-    if (annotationType == PathParam.class) {
-      final boolean decode = EntityUtil.shouldDecode(annotations);
-      final String pathParamNameToMatch = ((PathParam)annotation).value();
-
-      if (rawType == PathSegment.class) {
-        final ArrayList<PathSegment> pathSegments = getUriInfo().getPathSegments(decode);
-
-        final String[] pathParamNames = resourceMatch.getPathParamNames();
-        final long[] regionStartEnds = resourceMatch.getRegionStartEnds();
-        for (int p = 0, p$ = pathParamNames.length, segStart = 0, segEnd; p < p$; ++p) { // [A]
-          if (matches(pathParamNameToMatch, pathParamNames[p])) {
-            final long regionStartEnd = regionStartEnds[p];
-            final int regionStart = Numbers.Composite.decodeInt(regionStartEnd, 0);
-            final int regionEnd = Numbers.Composite.decodeInt(regionStartEnd, 1);
-
-            for (int i = 0, i$ = pathSegments.size(); i < i$; ++i) { // [RA]
-              final PathSegment pathSegment = pathSegments.get(i);
-              final String path = ((PathSegmentImpl)pathSegment).getPath();
-              segEnd = segStart + path.length();
-              if (rangeIntersects(segStart, segEnd, regionStart, regionEnd))
-                return pathSegment;
+    return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
+  }
 
-              segStart = segEnd + 1; // add '/' char
-            }
+  @SuppressWarnings("unchecked")
+  Object getPathParam(final AnnotatedElement element, final String pathParamNameToMatch, final boolean decode, final ParamPlurality<?> paramPlurality, final Class<?> memberClass, final DefaultValueImpl defaultValue, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    if (rawType == PathSegment.class) {
+      final ArrayList<PathSegment> pathSegments = getUriInfo().getPathSegments(decode);
+
+      final String[] pathParamNames = resourceMatch.getPathParamNames();
+      final long[] regionStartEnds = resourceMatch.getRegionStartEnds();
+      for (int p = 0, p$ = pathParamNames.length, segStart = 0, segEnd; p < p$; ++p) { // [A]
+        if (matches(pathParamNameToMatch, pathParamNames[p])) {
+          final long regionStartEnd = regionStartEnds[p];
+          final int regionStart = Numbers.Composite.decodeInt(regionStartEnd, 0);
+          final int regionEnd = Numbers.Composite.decodeInt(regionStartEnd, 1);
+
+          for (int i = 0, i$ = pathSegments.size(); i < i$; ++i) { // [RA]
+            final PathSegment pathSegment = pathSegments.get(i);
+            final String path = ((PathSegmentImpl)pathSegment).getPath();
+            segEnd = segStart + path.length();
+            if (rangeIntersects(segStart, segEnd, regionStart, regionEnd))
+              return pathSegment;
+
+            segStart = segEnd + 1; // add '/' char
           }
         }
-
-        if (logger.isWarnEnabled()) { logger.warn("@PathParam(\"" + pathParamNameToMatch + "\") PathSegment not found in URI template of @Path on: " + element); }
-        return null;
       }
 
-      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
+      if (logger.isWarnEnabled()) { logger.warn("@PathParam(\"" + pathParamNameToMatch + "\") PathSegment not found in URI template of @Path on: " + element); }
+      return null;
+    }
 
-      final Class<?> memberClass;
-      if ((paramPlurality == ParamPlurality.COLLECTION || paramPlurality == ParamPlurality.ARRAY) && (memberClass = paramPlurality.getMemberClass(rawType, genericType)) == PathSegment.class) {
-        final ArrayList<PathSegment> pathSegments = getUriInfo().getPathSegments(decode);
-
-        int segStart = 0, segEnd;
-        final String[] pathParamNames = resourceMatch.getPathParamNames();
-        final long[] regionStartEnds = resourceMatch.getRegionStartEnds();
-        final Collection<PathSegment> matchedSegments = paramPlurality == ParamPlurality.ARRAY ? new ArrayList<>() : (Collection<PathSegment>)paramPlurality.newContainer(rawType, Integer.MAX_VALUE); // FIXME: Size is unknown at this time.
-        OUT:
-        for (int i = 0, i$ = pathParamNames.length, j = 0; i < i$; ++i) { // [A]
-          if (matches(pathParamNameToMatch, pathParamNames[i])) {
-            boolean inRegion = false;
-            final long regionStartEnd = regionStartEnds[i];
-            final int regionStart = Numbers.Composite.decodeInt(regionStartEnd, 0);
-            final int regionEnd = Numbers.Composite.decodeInt(regionStartEnd, 1);
-            do {
-              final PathSegment pathSegment = pathSegments.get(j);
-              final String path = ((PathSegmentImpl)pathSegment).getPath();
-              segEnd = segStart + path.length();
-
-              if (inRegion) {
-                if (rangeIntersects(segStart, segEnd, regionStart, regionEnd))
-                  matchedSegments.add(pathSegment);
-                else
-                  break;
-              }
-              else if (inRegion = rangeIntersects(segStart, segEnd, regionStart, regionEnd)) {
+    if (memberClass == PathSegment.class) {
+      final ArrayList<PathSegment> pathSegments = getUriInfo().getPathSegments(decode);
+
+      int segStart = 0, segEnd;
+      final String[] pathParamNames = resourceMatch.getPathParamNames();
+      final long[] regionStartEnds = resourceMatch.getRegionStartEnds();
+      final Collection<PathSegment> matchedSegments = paramPlurality == ParamPlurality.ARRAY ? new ArrayList<>() : (Collection<PathSegment>)paramPlurality.newContainer(rawType, Integer.MAX_VALUE); // FIXME: Size is unknown at this time.
+      OUT:
+      for (int i = 0, i$ = pathParamNames.length, j = 0; i < i$; ++i) { // [A]
+        if (matches(pathParamNameToMatch, pathParamNames[i])) {
+          boolean inRegion = false;
+          final long regionStartEnd = regionStartEnds[i];
+          final int regionStart = Numbers.Composite.decodeInt(regionStartEnd, 0);
+          final int regionEnd = Numbers.Composite.decodeInt(regionStartEnd, 1);
+          do {
+            final PathSegment pathSegment = pathSegments.get(j);
+            final String path = ((PathSegmentImpl)pathSegment).getPath();
+            segEnd = segStart + path.length();
+
+            if (inRegion) {
+              if (rangeIntersects(segStart, segEnd, regionStart, regionEnd))
                 matchedSegments.add(pathSegment);
-              }
+              else
+                break;
+            }
+            else if (inRegion = rangeIntersects(segStart, segEnd, regionStart, regionEnd)) {
+              matchedSegments.add(pathSegment);
+            }
 
-              if (++j == pathSegments.size())
-                break OUT;
+            if (++j == pathSegments.size())
+              break OUT;
 
-              segStart = segEnd + 1; // add '/' char
-            }
-            while (true);
+            segStart = segEnd + 1; // add '/' char
           }
+          while (true);
         }
-
-        return paramPlurality == ParamPlurality.ARRAY ? matchedSegments.toArray((Object[])Array.newInstance(memberClass, matchedSegments.size())) : matchedSegments;
       }
 
-      final MultivaluedArrayMap<String,String> pathParameters = getUriInfo().getPathParameters(decode);
-      List<String> values = pathParameters.get(pathParamNameToMatch);
-      // FIXME: Another useful warning would be: notify if more than 1 @PathParam annotations specify the same name
-      String value = null;
-      if (values == null) {
-        if (logger.isWarnEnabled()) { logger.warn("@PathParam(\"" + pathParamNameToMatch + "\") not found in URI template of @Path on: " + element); }
+      return paramPlurality == ParamPlurality.ARRAY ? matchedSegments.toArray((Object[])Array.newInstance(memberClass, matchedSegments.size())) : matchedSegments;
+    }
 
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue != null) {
-          if (defaultValue.isConverted)
-            return defaultValue.convertedValue;
+    final MultivaluedArrayMap<String,String> pathParameters = getUriInfo().getPathParameters(decode);
+    final List<String> values = pathParameters.get(pathParamNameToMatch);
+    // FIXME: Another useful warning would be: notify if more than 1 @PathParam annotations specify the same name
+    String value = null;
+    if (values == null) {
+      if (logger.isWarnEnabled()) { logger.warn("@PathParam(\"" + pathParamNameToMatch + "\") not found in URI template of @Path on: " + element); }
 
-          value = defaultValue.annotatedValue;
-        }
-      }
+      if (defaultValue != null) {
+        if (defaultValue.isConverted)
+          return defaultValue.convertedValue;
 
-      return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, value, values, false, components.getParamConverterComponents(), this);
+        value = defaultValue.annotatedValue;
+      }
     }
 
-    if (annotationType == MatrixParam.class) {
-      final boolean decode = EntityUtil.shouldDecode(annotations);
-      final ArrayList<PathSegmentImpl> pathSegments = getUriInfo().getPathSegmentImpls(decode);
+    return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, value, values, false, components.getParamConverterComponents(), this);
+  }
 
-      final int pathSegremntsSize = pathSegments.size();
-      final List<String> values;
-      if (pathSegremntsSize == 0) {
-        values = null;
-      }
-      else {
-        final String[] matrixParams = getMatrixParamValue(((MatrixParam)annotation).value(), pathSegments, pathSegremntsSize);
-        values = matrixParams == null ? null : Arrays.asList(matrixParams);
-      }
+  Object getMatrixParam(final String name, final boolean decode, final ParamPlurality<?> paramPlurality, final DefaultValueImpl defaultValue, final Annotation[] annotations, final Class<?> rawType, final Type genericType) throws IOException {
+    final ArrayList<PathSegmentImpl> pathSegments = getUriInfo().getPathSegmentImpls(decode);
 
-      final ParamPlurality<?> paramPlurality = ParamPlurality.fromClass(rawType);
-      final String firstValue;
-      if (values == null) {
-        final DefaultValueImpl defaultValue = getDefaultValue(element, parameterIndex);
-        if (defaultValue == null)
-          return paramPlurality.getNullValue(rawType);
+    final int pathSegremntsSize = pathSegments.size();
+    final List<String> values;
+    if (pathSegremntsSize == 0) {
+      values = null;
+    }
+    else {
+      final String[] matrixParams = getMatrixParamValue(name, pathSegments, pathSegremntsSize);
+      values = matrixParams == null ? null : Arrays.asList(matrixParams);
+    }
 
-        if (defaultValue.isConverted)
-          return defaultValue.convertedValue;
+    final String firstValue;
+    if (values == null) {
+      if (defaultValue == null)
+        return paramPlurality.getNullValue(rawType);
 
-        firstValue = defaultValue.annotatedValue;
-      }
-      else {
-        firstValue = values.get(0);
-      }
+      if (defaultValue.isConverted)
+        return defaultValue.convertedValue;
 
-      return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
+      firstValue = defaultValue.annotatedValue;
+    }
+    else {
+      firstValue = values.get(0);
     }
 
-    throw new UnsupportedOperationException("Unsupported param annotation type: " + annotationType);
+    return DefaultParamConverterProvider.convertParameter(rawType, genericType, annotations, paramPlurality, firstValue, values, false, components.getParamConverterComponents(), this);
   }
 
   private String[] getMatrixParamValue(final String matrixParamName, final ArrayList<PathSegmentImpl> pathSegments, final int size) {
@@ -708,17 +730,6 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     if (resourceMatches == null)
       return false;
 
-    final int size;
-    final ResourceMatch resourceMatch = resourceMatches.get(0);
-    ResourceMatch resourceMatch1;
-    if (logger.isWarnEnabled() && (size = resourceMatches.size()) > 1 && resourceMatch.compareTo(resourceMatch1 = resourceMatches.get(1)) == 0) {
-      final StringBuilder b = new StringBuilder("Multiple resources match ambiguously for request to: ");
-      getHttpHeaders().toCurlString(b, httpServletRequest.getMethod(), httpServletRequest.getRequestURI(), null);
-      b.append(": [").append(resourceMatch).append(", ").append(resourceMatch1);
-      for (int i = 1; ++i < size && resourceMatch.compareTo(resourceMatch1 = resourceMatches.get(i)) == 0; b.append(", ").append(resourceMatch1)); // [RA]
-      logger.warn(b.append(']').toString());
-    }
-
     // FIXME: Note that this code always picks the 1st ResourceMatch.
     // FIXME: This is done under the assumption that it is not possible to have a situation where
     // FIXME: any other ResourceMatch would be retrieved. Is this truly the case?!
@@ -757,10 +768,8 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     return contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_TYPE; // [JAX-RS 2.1 4.2.1]
   }
 
-  @SuppressWarnings("resource")
   private ResourceMatches filterAndMatch(final String requestMethod, final boolean isOverride) {
-    final int noResourceInfos = resourceInfos.size();
-    if (noResourceInfos == 0)
+    if (resourceInfos.size() == 0)
       return null;
 
     final UriInfo uriInfo = getUriInfo();
@@ -773,92 +782,135 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     normalizeUri(requestUriBuilder, path, path.length(), false, 0, 0);
 
     final String requestUriMatched = requestUriBuilder.toString();
+    final RouteCache routeCache = resourceInfos.getRouteCache();
+    if (routeCache == null)
+      return filterAndMatch(requestMethod, requestUriMatched, baseUriLen, isOverride);
+
+    final String key = RouteCache.key(requestMethod, requestUriMatched, headers.getFirst(CONTENT_TYPE), headers.getString(ACCEPT), headers.getString(ACCEPT_CHARSET));
+    final RouteCache.Route route = routeCache.get(key);
+    if (route != null) {
+      final ResourceMatches resourceMatches = replay(route, requestUriMatched, baseUriLen);
+      if (resourceMatches != null)
+        return resourceMatches;
+    }
+
+    final ResourceMatches resourceMatches = filterAndMatch(requestMethod, requestUriMatched, baseUriLen, isOverride);
+    if (resourceMatches != null)
+      routeCache.put(key, new RouteCache.Route(resourceMatches));
 
-    TreeSet<String> maybeNotAllowed = null;
+    return resourceMatches;
+  }
+
+  /**
+   * Returns the {@link ResourceMatches} of the specified cached {@link RouteCache.Route}, with path parameters extracted from the
+   * specified request URI, or {@code null} if a {@link UriTemplate} of the route unexpectedly does not match.
+   */
+  private static ResourceMatches replay(final RouteCache.Route route, final String requestUriMatched, final int baseUriLen) {
+    final ResourceInfoImpl[] resourceInfos = route.resourceInfos;
+    final ResourceMatches resourceMatches = new ResourceMatches();
+    for (int i = 0, i$ = resourceInfos.length; i < i$; ++i) { // [A]
+      final ResourceInfoImpl resourceInfo = resourceInfos[i];
+      final UriTemplate uriTemplate = resourceInfo.getUriTemplate();
+      final Matcher matcher;
+      if (uriTemplate.isLiteral())
+        matcher = null;
+      else if (!(matcher = uriTemplate.matcher(requestUriMatched)).find())
+        return null;
+
+      resourceMatches.add(new ResourceMatch(resourceInfo, requestUriMatched, route.compatibleMediaTypes[i], matcher, baseUriLen));
+    }
+
+    return resourceMatches;
+  }
+
+  @SuppressWarnings("resource")
+  private ResourceMatches filterAndMatch(final String requestMethod, final String requestUriMatched, final int baseUriLen, final boolean isOverride) {
     boolean maybeNotSupported = false;
     boolean maybeNotAcceptable = false;
     ResourceMatches resourceMatches = null;
-    int i = 0;
-    do { // [RA]
-      final ResourceInfoImpl resourceInfo = resourceInfos.get(i);
+    ResourceMatch best = null;
+    String contentTypeKey = null;
+    String acceptKey = null;
+    // Only the ResourceInfoImpls of the request method (and sub-resource locators) are routed
+    final ResourceInfoImpl[] candidates = resourceInfos.getRouter(requestMethod).route(requestUriMatched);
+    for (int i = 0, i$ = candidates.length; i < i$; ++i) { // [A]
+      final ResourceInfoImpl resourceInfo = candidates[i];
       final UriTemplate uriTemplate = resourceInfo.getUriTemplate();
-      final Matcher matcher = uriTemplate.matcher(requestUriMatched);
-      if (!matcher.find())
+      final Matcher matcher;
+      if (uriTemplate.isLiteral()) {
+        if (!uriTemplate.matchesLiteral(requestUriMatched))
+          continue;
+
+        matcher = null;
+      }
+      else if (!(matcher = uriTemplate.matcher(requestUriMatched)).find()) {
         continue;
+      }
 
-      final HttpMethod httpMethod = resourceInfo.getHttpMethod();
-      if (httpMethod == null)
+      if (resourceInfo.getHttpMethod() == null)
         throw new UnsupportedOperationException("JAX-RS 2.1 3.4.1");
 
-      final String resourceMethod = httpMethod.value();
-      if (!requestMethod.equals(resourceMethod)) {
-        if (!isOverride) {
-          if (maybeNotAllowed == null)
-            maybeNotAllowed = new TreeSet<>();
-
-          maybeNotAllowed.add(resourceMethod);
-        }
-
-        continue;
+      maybeNotSupported = true;
+      if (contentTypeKey == null) {
+        final String contentType = headers.getFirst(CONTENT_TYPE);
+        contentTypeKey = contentType != null ? contentType : "";
+        acceptKey = ResourceInfoImpl.getAcceptKey(headers.getString(ACCEPT), headers.getString(ACCEPT_CHARSET));
       }
 
-      maybeNotSupported = true;
-      if (!resourceInfo.isCompatibleContentType(getContentType()))
+      if (!resourceInfo.isCompatibleContentType(contentTypeKey, getContentType()))
         continue;
 
-      final MediaType[] compatibleMediaTypes = resourceInfo.getCompatibleAccept(getAcceptableMediaTypes(), getHttpHeaders().get(ACCEPT_CHARSET));
+      final MediaType[] compatibleMediaTypes = resourceInfo.getCompatibleAccept(acceptKey, getAcceptableMediaTypes(), headers.get(ACCEPT_CHARSET));
       if (compatibleMediaTypes != null) {
         maybeNotAcceptable = true;
         if (compatibleMediaTypes.length == 0)
           continue;
       }
 
-      if (resourceMatches == null)
+      final ResourceMatch resourceMatch = new ResourceMatch(resourceInfo, requestUriMatched, compatibleMediaTypes, matcher, baseUriLen); // We only care about the highest quality match of the Accept header
+      if (resourceMatches == null) {
         resourceMatches = new ResourceMatches();
-
-      final String[] pathParamNames = uriTemplate.getPathParamNames();
-      final int len = pathParamNames.length;
-      final MultivaluedArrayMap<String,String> pathParameters = new MultivaluedArrayHashMap<>(len);
-      final long[] regionStartEnds = new long[len];
-
-      for (int j = 0; j < len; ++j) { // [A]
-        final String pathParamName = pathParamNames[j];
-        final String pathParamValue = matcher.group(pathParamName);
-        pathParameters.add(pathParamName.substring(0, pathParamName.lastIndexOf(UriTemplate.DEL, pathParamName.length() - 1)), pathParamValue);
-
-        final int start = matcher.start(pathParamName) - baseUriLen;
-        final int end = matcher.end(pathParamName) - baseUriLen;
-        regionStartEnds[j] = Numbers.Composite.encode(start, end);
+        best = resourceMatch;
+      }
+      else if (!best.getResourceInfo().isUnambiguous() && resourceMatch.compareTo(best) < 0) {
+        best = resourceMatch;
       }
 
-      resourceMatches.add(new ResourceMatch(resourceInfo, matcher.group(), compatibleMediaTypes, pathParamNames, regionStartEnds, pathParameters)); // We only care about the highest quality match of the Accept header
+      resourceMatches.add(resourceMatch);
     }
-    while (++i < noResourceInfos);
 
     if (resourceMatches != null) {
-      resourceMatches.sort(null);
+      // Only the best match needs to be moved to the front, and the rest are sorted if and when ResourceMatches are listed in UriInfo
+      if (resourceMatches.get(0) != best && resourceMatches.remove(best))
+        resourceMatches.add(0, best);
+
       return resourceMatches;
     }
 
     if (maybeNotAcceptable)
-      throw new NotAcceptableException();
+      throw RoutingExceptions.notAcceptable();
 
     if (maybeNotSupported)
-      throw new NotSupportedException();
+      throw RoutingExceptions.notSupported();
+
+    if (isOverride)
+      return null;
 
-    if (maybeNotAllowed == null || isOverride)
+    // The immutable Allow set is precomputed for each distinct UriTemplate, and is only looked up when the request method has no match
+    final Set<String> allowedMethods = resourceInfos.getAllowedMethods(requestUriMatched);
+    if (allowedMethods == null)
       return null;
 
     if (HttpMethod.OPTIONS.equals(requestMethod)) {
       final Response.ResponseBuilder response = Response.ok();
 
-      for (final String header : maybeNotAllowed) // [S]
+      for (final String header : allowedMethods) // [S]
         response.header(ACCESS_CONTROL_ALLOW_METHODS, header).header(ALLOW, header);
 
       final List<String> requestHeaders = getHttpHeaders().get(ACCESS_CONTROL_REQUEST_HEADERS);
       final int i$;
       if (requestHeaders != null && (i$ = requestHeaders.size()) > 0)
-        for (i = 0; i < i$; ++i) // [RA]
+        for (int i = 0; i < i$; ++i) // [RA]
           response.header(ACCESS_CONTROL_ALLOW_HEADERS, requestHeaders.get(i));
 
       final String origin = httpServletRequest.getHeader(ORIGIN);
@@ -870,12 +922,12 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
       abortWith(response.build());
     }
     else if (HttpMethod.HEAD.equals(requestMethod)) {
-      final ResourceMatches matches = filterAndMatch(HttpMethod.GET, true);
+      final ResourceMatches matches = filterAndMatch(HttpMethod.GET, requestUriMatched, baseUriLen, true);
       if (matches != null)
         return matches;
     }
 
-    throw new NotAllowedException(Response.status(Response.Status.METHOD_NOT_ALLOWED).allow(maybeNotAllowed).build());
+    throw RoutingExceptions.notAllowed(allowedMethods);
   }
 
   void service() throws Throwable {
@@ -907,17 +959,16 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
     if (t instanceof WebApplicationException && (response = ((WebApplicationException)t).getResponse()).hasEntity())
       return setResponse(response, null);
 
-    Class cls = t.getClass();
-    final Providers providers = this.providers;
-    do {
-      final ExceptionMapper exceptionMapper = providers.getExceptionMapper(cls);
-      if (exceptionMapper != null) {
-        response = exceptionMapper.toResponse(t);
+    // The ExceptionMapper of t's class and each of its superclasses, resolved once per class
+    final ProvidersImpl providers = this.providers;
+    final TypeComponent<ExceptionMapper<?>>[] exceptionMapperComponents = providers.getExceptionMapperComponents(RoutingExceptions.getMappedClass(t));
+    for (final TypeComponent<ExceptionMapper<?>> exceptionMapperComponent : exceptionMapperComponents) { // [A]
+      if (exceptionMapperComponent != null) {
+        response = ((ExceptionMapper)providers.getInstance(exceptionMapperComponent)).toResponse(t);
         if (response != null)
           return setResponse(response, null);
       }
     }
-    while ((cls = cls.getSuperclass()) != null);
 
     if (t instanceof WebApplicationException)
       return setResponse(((WebApplicationException)t).getResponse(), null);
@@ -1052,6 +1103,7 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
   public void setEntityStream(final InputStream input) {
     hasEntity = input != null;
     entityStream = input;
+    formParameters = null;
   }
 
   private SecurityContext securityContext;
@@ -1112,6 +1164,12 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
   public void close() throws IOException {
     super.close();
 
+    if (resourceMatches != null) {
+      final Object entity = containerResponseContext != null ? containerResponseContext.getEntity() : null;
+      for (int i = 0, i$ = resourceMatches.size(); i < i$; ++i) // [RA]
+        resourceMatches.get(i).releaseResourceInstance(entity);
+    }
+
     if (containerResponseContext != null) {
       containerResponseContext.close();
       containerResponseContext = null;
@@ -1122,6 +1180,7 @@ class ContainerRequestContextImpl extends RequestContext<ServerRuntimeContext,Ht
       entityStream = null;
     }
 
+    formParameters = null;
     httpServletRequest = null;
     httpServletResponse = null;
     lastProceeded = null;
@@ -58,6 +58,7 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
   private static final Logger logger = LoggerFactory.getLogger(ContainerResponseContextImpl.class);
   static final int chunkSize = assertPositive(Systems.getProperty(ServerProperties.CHUNKED_ENCODING_SIZE_SERVER, CommonProperties.CHUNKED_ENCODING_SIZE, CommonProperties.CHUNKED_ENCODING_SIZE_DEFAULT));
   static final int bufferSize = Systems.getProperty(ServerProperties.CONTENT_LENGTH_BUFFER_SERVER, CommonProperties.CONTENT_LENGTH_BUFFER, CommonProperties.CONTENT_LENGTH_BUFFER_DEFAULT);
+  private static final boolean omitHeadContentLength = Systems.hasProperty(ServerProperties.OMIT_HEAD_CONTENT_LENGTH);
 
   private static class CountingNoopOutputStream extends OutputStream {
     int count = 0;
@@ -334,11 +335,21 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
       getStringHeaders().add(HttpHeaders.TRANSFER_ENCODING, "chunked");
       httpServletResponse.setBufferSize(chunkSize);
 
-      flushHeaders(httpServletResponse, compatibleMediaType, messageBodyWriter, exception);
-      final OutputStream socketOutputStream = httpServletResponse.getOutputStream();
-      socketOutputStream.write(buf, 0, count);
-      socketOutputStream.write(bs, off, len);
-      relegateOutputStream.setTarget(socketOutputStream);
+      try {
+        flushHeaders(httpServletResponse, compatibleMediaType, messageBodyWriter, exception);
+        final OutputStream socketOutputStream = httpServletResponse.getOutputStream();
+        socketOutputStream.write(buf, 0, count);
+        if (bs != null)
+          socketOutputStream.write(bs, off, len);
+        else
+          socketOutputStream.write(b);
+
+        relegateOutputStream.setTarget(socketOutputStream);
+      }
+      finally {
+        // The buffer is no longer needed, because all subsequent writes go directly to the socket
+        super.close();
+      }
 
       return false;
     }
@@ -350,15 +361,18 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
 
       isClosed = true;
 
-      getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, Integer.valueOf(count));
-      // FIXME: Setting this to a low value significantly reduces performance, so leaving this to the servlet container's default
-      // FIXME: httpServletResponse.setBufferSize(Streams.DEFAULT_SOCKET_BUFFER_SIZE);
-      flushHeaders(httpServletResponse, compatibleMediaType, messageBodyWriter, exception);
-      try (final OutputStream socketOutputStream = httpServletResponse.getOutputStream()) {
-        socketOutputStream.write(buf, 0, count);
+      try {
+        getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, Integer.valueOf(count));
+        // FIXME: Setting this to a low value significantly reduces performance, so leaving this to the servlet container's default
+        // FIXME: httpServletResponse.setBufferSize(Streams.DEFAULT_SOCKET_BUFFER_SIZE);
+        flushHeaders(httpServletResponse, compatibleMediaType, messageBodyWriter, exception);
+        try (final OutputStream socketOutputStream = httpServletResponse.getOutputStream()) {
+          socketOutputStream.write(buf, 0, count);
+        }
+      }
+      finally {
+        super.close();
       }
-
-      super.close();
     }
   }
 
@@ -375,7 +389,7 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
     return mediaTypes[0];
   }
 
-  private void flushHeaders(final HttpServletResponse httpServletResponse, final MediaType compatibleMediaType, final MessageBodyWriter<?> messageBodyWriter, final Throwable exception) throws IOException {
+  private void setDefaultMediaType(final MediaType compatibleMediaType, final MessageBodyWriter<?> messageBodyWriter, final Throwable exception) {
     // [JAX-RS 2.1 3.5 and 3.8 9]
     if (hasEntity() && getMediaType() == null) {
       MediaType contentType = exception != null ? getMediaType(messageBodyWriter) : compatibleMediaType;
@@ -386,7 +400,10 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
 
       setMediaType(contentType);
     }
+  }
 
+  private void flushHeaders(final HttpServletResponse httpServletResponse, final MediaType compatibleMediaType, final MessageBodyWriter<?> messageBodyWriter, final Throwable exception) throws IOException {
+    setDefaultMediaType(compatibleMediaType, messageBodyWriter, exception);
     if (headers.size() > 0) {
       for (final Map.Entry<String,List<String>> entry : headers.entrySet()) { // [S]
         final List<String> values = entry.getValue();
@@ -417,10 +434,135 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
     httpServletResponse.flushBuffer();
   }
 
+  /**
+   * Applies the {@code Range} header of a {@code GET} request to a {@code 200 OK} response with an entity for which ranges are
+   * supported [RFC 7233]. The entity is replaced with the requested {@link ByteRanges} and the status is set to
+   * {@code 206 Partial Content}, or, if none of the ranges is satisfiable, the entity is removed and the status is set to
+   * {@code 416 Range Not Satisfiable}. The {@code Range} header is ignored if it is invalid, or if the {@code If-Range} header is not
+   * satisfied. {@code Accept-Ranges: bytes} is set on all {@code GET} and {@code HEAD} responses with such an entity. Ranges are not
+   * supported if {@link WriterInterceptor}s are registered, because the offsets of the ranges would not correspond to the entity
+   * stream as altered by the {@link WriterInterceptor}s (i.e. with a {@code Content-Encoding}).
+   *
+   * @param resourceMatch The {@link ResourceMatch}, or {@code null} if there is none.
+   * @throws IOException If an I/O error has occurred.
+   */
+  private void applyRange(final ResourceMatch resourceMatch) throws IOException {
+    final String method = requestContext.getMethod();
+    final boolean isGet = HttpMethod.GET.equals(method);
+    if (!isGet && !HttpMethod.HEAD.equals(method) || getStatus() != Response.Status.OK.getStatusCode() || writerInterceptorComponents.size() > 0)
+      return;
+
+    final Object entity = getEntity();
+    final long length = ByteRanges.getLength(entity, headers.getFirst(HttpHeaders.CONTENT_LENGTH));
+    if (length < 0)
+      return;
+
+    headers.putSingle(HttpHeaders.ACCEPT_RANGES, "bytes");
+    final HttpHeadersImpl requestHeaders;
+    final String range;
+    if (!isGet || (range = (requestHeaders = requestContext.getHttpHeaders()).getString(HttpHeaders.RANGE)) == null)
+      return;
+
+    final String ifRange = requestHeaders.getString(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ByteRanges.isIfRangeSatisfied(ifRange, headers.getFirst(HttpHeaders.ETAG), headers.getFirst(HttpHeaders.LAST_MODIFIED), entity))
+      return;
+
+    final long[] ranges = ByteRanges.parse(range, length);
+    if (ranges == null)
+      return;
+
+    if (ranges.length == 0) {
+      setStatusInfo(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE);
+      headers.remove(HttpHeaders.CONTENT_LENGTH);
+      headers.putSingle(HttpHeaders.CONTENT_RANGE, ByteRanges.getUnsatisfiedContentRange(length));
+      setEntity(null);
+      return;
+    }
+
+    MediaType mediaType = getMediaType();
+    final MediaType[] compatibleMediaTypes;
+    if (mediaType == null && resourceMatch != null && (compatibleMediaTypes = resourceMatch.getCompatibleMediaTypes()) != null && !compatibleMediaTypes[0].isWildcardType() && !compatibleMediaTypes[0].isWildcardSubtype())
+      mediaType = compatibleMediaTypes[0];
+
+    final ByteRanges byteRanges = new ByteRanges(entity, length, ranges, mediaType == null ? null : mediaType.toString());
+    setStatusInfo(Response.Status.PARTIAL_CONTENT);
+    headers.remove(HttpHeaders.CONTENT_LENGTH);
+    if (byteRanges.isMultipart())
+      headers.putSingle(HttpHeaders.CONTENT_TYPE, byteRanges.getMultipartContentType());
+    else
+      headers.putSingle(HttpHeaders.CONTENT_RANGE, byteRanges.getContentRange());
+
+    setEntity(byteRanges);
+    setGenericType(ByteRanges.class);
+  }
+
+  /**
+   * Value returned by {@link #getHeadContentLength(boolean,Object,boolean,MessageBodyWriter,Object,Class,Type,Annotation[],MediaType)}
+   * if the {@value HttpHeaders#CONTENT_LENGTH} of the response to a {@code HEAD} request is not to be set.
+   */
+  static final long HEAD_CONTENT_LENGTH_UNSET = -2;
+
+  /**
+   * Returns the {@value HttpHeaders#CONTENT_LENGTH} of the response to a {@code HEAD} request, as determined without serializing the
+   * entity. The size is not trusted if {@link WriterInterceptor}s are registered, because they may alter the entity stream. Otherwise,
+   * the size is that returned by the {@link MessageBodyWriter}, or, if unknown to the {@link MessageBodyWriter}, that returned by a
+   * {@link SizeProbe}.
+   *
+   * @param omitHeadContentLength Whether the {@value HttpHeaders#CONTENT_LENGTH} is to be
+   *          {@linkplain ServerProperties#OMIT_HEAD_CONTENT_LENGTH omitted}.
+   * @param contentLength The {@value HttpHeaders#CONTENT_LENGTH} already specified for the response, or {@code null} if none is.
+   * @param hasWriterInterceptors Whether {@link WriterInterceptor}s are registered.
+   * @param messageBodyWriter The {@link MessageBodyWriter} of the entity.
+   * @param entity The entity.
+   * @param type The class of the entity.
+   * @param genericType The generic type of the entity.
+   * @param annotations The annotations of the entity.
+   * @param mediaType The media type with which the entity would be written.
+   * @return The {@value HttpHeaders#CONTENT_LENGTH} of the response to a {@code HEAD} request, {@link #HEAD_CONTENT_LENGTH_UNSET} if
+   *         none is to be set, because it is already specified or is to be omitted, or {@code -1} if the entity is to be serialized to
+   *         determine its size.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  static long getHeadContentLength(final boolean omitHeadContentLength, final Object contentLength, final boolean hasWriterInterceptors, final MessageBodyWriter messageBodyWriter, final Object entity, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) throws IOException {
+    if (omitHeadContentLength || contentLength != null)
+      return HEAD_CONTENT_LENGTH_UNSET;
+
+    if (hasWriterInterceptors)
+      return -1;
+
+    final long size = messageBodyWriter.getSize(entity, type, genericType, annotations, mediaType);
+    return size >= 0 ? size : SizeProbes.getSize(entity, type, genericType, annotations, mediaType);
+  }
+
+  /**
+   * Flushes the headers of the response to a {@code HEAD} request without serializing the entity, if its
+   * {@value HttpHeaders#CONTENT_LENGTH} can be
+   * {@linkplain #getHeadContentLength(boolean,Object,boolean,MessageBodyWriter,Object,Class,Type,Annotation[],MediaType) determined}
+   * without serializing the entity.
+   *
+   * @return Whether the headers have been flushed, or {@code false} if the entity is to be serialized to determine its size.
+   * @throws IOException If an I/O error has occurred.
+   */
+  private boolean writeHead(final HttpServletResponse httpServletResponse, final MediaType writerMediaType, final MessageBodyWriter<?> messageBodyWriter, final Throwable exception) throws IOException {
+    final long size = getHeadContentLength(omitHeadContentLength, getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH), writerInterceptorComponents.size() > 0, messageBodyWriter, getEntity(), getEntityClass(), getEntityType(), getEntityAnnotations(), getMediaType());
+    if (size == -1)
+      return false;
+
+    if (size >= 0)
+      getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, size);
+
+    flushHeaders(httpServletResponse, writerMediaType, messageBodyWriter, exception);
+    return true;
+  }
+
   @SuppressWarnings("rawtypes")
   void writeResponse(final HttpServletResponse httpServletResponse, final Throwable exception) throws IOException {
-    final Object entity = getEntity();
     final ResourceMatch resourceMatch = requestContext.getResourceMatch();
+    if (exception == null && firstOutputStream == null)
+      applyRange(resourceMatch);
+
+    final Object entity = getEntity();
     if (entity == null) {
       final MediaType[] compatibleMediaTypes;
       flushHeaders(httpServletResponse, resourceMatch == null || (compatibleMediaTypes = resourceMatch.getCompatibleMediaTypes()) == null ? MediaType.WILDCARD_TYPE : compatibleMediaTypes[0], null, exception);
@@ -447,6 +589,10 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
     final MessageBodyWriter messageBodyWriter = (MessageBodyWriter)messageBodyProviderHolder.getProvider();
     final MediaType writerMediaType = messageBodyProviderHolder.getMediaType();
 
+    // Resolve the Content-Type before the entity is written (or sized for HEAD), so that the MessageBodyWriter receives the media type
+    // that is sent in the headers, rather than null if the resource did not specify one
+    setDefaultMediaType(writerMediaType, messageBodyWriter, exception);
+
     // Start WriterInterceptor process chain
     final boolean isHead = HttpMethod.HEAD.equals(requestContext.getMethod());
 
@@ -473,6 +619,9 @@ class ContainerResponseContextImpl extends InterceptorContextImpl<HttpServletReq
       }
     }
     else if (isHead) {
+      if (writeHead(httpServletResponse, writerMediaType, messageBodyWriter, exception))
+        return;
+
       firstOutputStream = outputStream = noopOutputStream = new CountingNoopOutputStream();
     }
     else {
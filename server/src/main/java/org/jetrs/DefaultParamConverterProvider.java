@@ -26,10 +26,13 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ProcessingException;
@@ -80,17 +83,100 @@ class DefaultParamConverterProvider implements ParamConverterProvider {
     return str.length() == 0 || (value = str.charAt(0)) < Character.MIN_VALUE || value > Character.MAX_VALUE ? defaultValue : Character.valueOf((char)value);
   }
 
-  private static <T> ParamConverter<T> lookupParamConverter(final ComponentSet<Component<ParamConverterProvider>> paramConverterComponents, final RequestContext<?,?> requestContext, final Class<T> rawType, final Type genericType, final Annotation[] annotations) throws IOException {
+  /**
+   * Key of a resolved {@link ParamConverter}, which compares the annotations by content, so that distinct arrays of equal annotations
+   * share an entry.
+   */
+  private static final class ConverterKey {
+    private final Class<?> rawType;
+    private final Type genericType;
+    private final Annotation[] annotations;
+    private final int hashCode;
+
+    private ConverterKey(final Class<?> rawType, final Type genericType, final Annotation[] annotations) {
+      this.rawType = rawType;
+      this.genericType = genericType;
+      this.annotations = annotations;
+      this.hashCode = (31 * rawType.hashCode() + Objects.hashCode(genericType)) * 31 + Arrays.hashCode(annotations);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof ConverterKey))
+        return false;
+
+      final ConverterKey that = (ConverterKey)obj;
+      return rawType == that.rawType && Objects.equals(genericType, that.genericType) && (annotations == that.annotations || Arrays.equals(annotations, that.annotations));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * A resolved {@link ParamConverter}, or {@link #NO_CONVERTER} if no {@link ParamConverterProvider} provides one.
+   */
+  private static final class ResolvedConverter {
+    private final ParamConverter<?> paramConverter;
+    private final boolean isLazy;
+
+    private ResolvedConverter(final ParamConverter<?> paramConverter) {
+      this.paramConverter = paramConverter;
+      this.isLazy = paramConverter != null && AnnotationUtil.isAnnotationPresent(paramConverter.getClass(), Lazy.class);
+    }
+  }
+
+  private static final ResolvedConverter NO_CONVERTER = new ResolvedConverter(null);
+  private static final int MAX_CONVERTER_CACHE_SIZE = 1024;
+
+  /**
+   * Returns the {@link ResolvedConverter} for the specified parameters, which is cached on the specified {@link ComponentSet} until a
+   * {@link ParamConverterProvider} is registered. Resolutions that consulted a non-singleton {@link ParamConverterProvider} are not
+   * cached, because the {@link ParamConverter} of a non-singleton provider may capture the state of its {@link RequestContext}, and
+   * neither are resolutions that could not consult a non-singleton provider, because it could not be instantiated without a
+   * {@link RequestContext}.
+   */
+  @SuppressWarnings("unchecked")
+  private static ResolvedConverter lookupParamConverter(final ComponentSet<Component<ParamConverterProvider>> paramConverterComponents, final RequestContext<?,?> requestContext, final Class<?> rawType, final Type genericType, final Annotation[] annotations) throws IOException {
+    ConcurrentHashMap<ConverterKey,ResolvedConverter> cache = (ConcurrentHashMap<ConverterKey,ResolvedConverter>)paramConverterComponents.getCache();
+    if (cache == null)
+      paramConverterComponents.setCache(cache = new ConcurrentHashMap<>());
+
+    final ConverterKey key = new ConverterKey(rawType, genericType, annotations);
+    ResolvedConverter resolvedConverter = cache.get(key);
+    if (resolvedConverter != null)
+      return resolvedConverter;
+
+    boolean cacheable = true;
+    ParamConverter<?> paramConverter = null;
     for (int i = 0, i$ = paramConverterComponents.size(); i < i$; ++i) { // [RA]
       final Component<ParamConverterProvider> factory = paramConverterComponents.get(i);
       // FIXME: Is there a way to detect whether the ParamConverterProvider can convert the parameter without instantiating the
-      // ParamConverterProvider?
-      final ParamConverter<T> paramConverter = factory.getSingletonOrFromRequestContext(requestContext).getConverter(rawType, genericType, annotations);
-      if (paramConverter != null)
-        return paramConverter;
+      // FIXME: ParamConverterProvider?
+      if (!factory.isSingleton)
+        cacheable = false;
+
+      final ParamConverterProvider paramConverterProvider = factory.getSingletonOrFromRequestContext(requestContext);
+      if (paramConverterProvider == null)
+        continue;
+
+      if ((paramConverter = paramConverterProvider.getConverter(rawType, genericType, annotations)) != null)
+        break;
     }
 
-    return instance.getConverter(rawType, genericType, annotations);
+    if (paramConverter == null)
+      paramConverter = instance.getConverter(rawType, genericType, annotations);
+
+    resolvedConverter = paramConverter == null ? NO_CONVERTER : new ResolvedConverter(paramConverter);
+    if (cacheable && cache.size() < MAX_CONVERTER_CACHE_SIZE)
+      cache.putIfAbsent(key, resolvedConverter);
+
+    return resolvedConverter;
   }
 
   // http://download.oracle.com/otn-pub/jcp/jaxrs-2_0_rev_A-mrel-eval-spec/jsr339-jaxrs-2.0-final-spec.pdf Section 3.2
@@ -119,10 +205,12 @@ class DefaultParamConverterProvider implements ParamConverterProvider {
         componentType = rawType;
       }
 
-      ParamConverter<?> paramConverter = lookupParamConverter(paramConverterComponents, requestContext, componentType, genericType, annotations);
-      if (onlyIfEager && paramConverter != null && AnnotationUtil.isAnnotationPresent(paramConverter.getClass(), Lazy.class))
+      ResolvedConverter resolvedConverter = lookupParamConverter(paramConverterComponents, requestContext, componentType, genericType, annotations);
+      if (onlyIfEager && resolvedConverter.isLazy)
         return null;
 
+      ParamConverter<?> paramConverter = resolvedConverter.paramConverter;
+
       if (paramPlurality == ParamPlurality.ARRAY) {
         if (componentType.isPrimitive()) {
           if (size == 0)
@@ -436,9 +524,11 @@ class DefaultParamConverterProvider implements ParamConverterProvider {
 
       if (paramConverter == null && componentType.isPrimitive()) {
         componentType = Classes.box(componentType);
-        paramConverter = lookupParamConverter(paramConverterComponents, requestContext, componentType, genericType, annotations);
-        if (onlyIfEager && paramConverter != null && AnnotationUtil.isAnnotationPresent(paramConverter.getClass(), Lazy.class))
+        resolvedConverter = lookupParamConverter(paramConverterComponents, requestContext, componentType, genericType, annotations);
+        if (onlyIfEager && resolvedConverter.isLazy)
           return null;
+
+        paramConverter = resolvedConverter.paramConverter;
       }
 
       if (paramConverter != null) {
@@ -48,7 +48,7 @@ final class EndpointFactory implements BiFunction<Application,Class<?>,HttpServl
   EndpointFactory() {
   }
 
-  private static Class<?> defineClass(final byte[] bytes, final String className) {
+  static Class<?> defineClass(final byte[] bytes, final String className) {
     try {
       if (isJdk178) {
         final Method method = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class);
@@ -16,11 +16,12 @@
 
 package org.jetrs;
 
+import java.io.IOException;
 import java.io.OutputStream;
 
 import org.libj.util.ObservableOutputStream;
 
-abstract class EntityOutputStream extends ObservableOutputStream {
+abstract class EntityOutputStream extends ObservableOutputStream implements EntityChannels.Target {
   void setTarget(final OutputStream target) {
     super.target = target;
   }
@@ -28,4 +29,14 @@ abstract class EntityOutputStream extends ObservableOutputStream {
   OutputStream getTarget() {
     return target;
   }
+
+  @Override
+  public OutputStream openTarget() throws IOException {
+    if (target == null) {
+      beforeWrite(-1, null, 0, 0);
+      afterWrite(-1, null, 0, 0);
+    }
+
+    return target;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.MatrixParam;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+
+/**
+ * Binder of the argument of a resource method parameter, which is created once per parameter of each {@link ResourceInfoImpl} at
+ * startup. A {@link ParamBinder} of a {@link CookieParam}, {@link HeaderParam}, {@link MatrixParam}, {@link PathParam} or
+ * {@link QueryParam} parameter already knows its name, decode flag, {@link ParamPlurality} and {@link DefaultValueImpl}, and reads its
+ * value directly from the request. All other parameters are resolved with
+ * {@link RequestContext#findInjectableValueFromCache(int,java.lang.reflect.AnnotatedElement,int,Annotation[],Class,Type)}.
+ */
+abstract class ParamBinder {
+  private static final class InjectableBinder extends ParamBinder {
+    private final int slot;
+
+    private InjectableBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType) {
+      super(parameter, parameterIndex, annotations, rawType, genericType);
+      this.slot = InjectionPlan.getSlot(annotations, rawType, genericType);
+    }
+
+    @Override
+    Object bind(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.findInjectableValueFromCache(slot, parameter, parameterIndex, annotations, rawType, genericType);
+    }
+  }
+
+  private abstract static class SourceBinder extends ParamBinder {
+    final String name;
+    final ParamPlurality<?> paramPlurality;
+    final DefaultValueImpl defaultValue;
+    private final boolean notNull;
+
+    private SourceBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final String name, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType);
+      this.name = name;
+      this.paramPlurality = ParamPlurality.fromClass(rawType);
+      this.defaultValue = defaultValue;
+      this.notNull = !EntityUtil.validateNotNull(null, annotations);
+    }
+
+    abstract Object getValue(ContainerRequestContextImpl requestContext) throws IOException;
+
+    @Override
+    final Object bind(final ContainerRequestContextImpl requestContext) throws IOException {
+      final Object argument = getValue(requestContext);
+      if (argument instanceof Exception)
+        throw new BadRequestException((Exception)argument);
+
+      if (argument == null && notNull)
+        throw new BadRequestException("@NotNull argument " + parameter + " is null");
+
+      return argument;
+    }
+  }
+
+  private static final class CookieBinder extends SourceBinder {
+    private final boolean isCookieType;
+
+    private CookieBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final CookieParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.isCookieType = ContainerRequestContextImpl.isCookieType(rawType, genericType);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getCookieParam(name, isCookieType, paramPlurality, defaultValue, annotations, rawType, genericType);
+    }
+  }
+
+  private static final class HeaderBinder extends SourceBinder {
+    private final Class<?> memberClass;
+
+    private HeaderBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final HeaderParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.memberClass = ContainerRequestContextImpl.getMemberClass(paramPlurality, rawType, genericType);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getHeaderParam(name, paramPlurality, memberClass, defaultValue, parameterIndex, annotations, rawType, genericType);
+    }
+  }
+
+  private static final class QueryBinder extends SourceBinder {
+    private final boolean decode;
+
+    private QueryBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final QueryParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.decode = EntityUtil.shouldDecode(annotations);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getQueryParam(name, decode, paramPlurality, defaultValue, annotations, rawType, genericType);
+    }
+  }
+
+  private static final class FormBinder extends SourceBinder {
+    private final boolean decode;
+
+    private FormBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final FormParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.decode = EntityUtil.shouldDecode(annotations);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getFormParam(name, decode, paramPlurality, defaultValue, annotations, rawType, genericType);
+    }
+  }
+
+  private static final class PathBinder extends SourceBinder {
+    private final boolean decode;
+    private final Class<?> memberClass;
+
+    private PathBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final PathParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.decode = EntityUtil.shouldDecode(annotations);
+      this.memberClass = ContainerRequestContextImpl.getMemberClass(paramPlurality, rawType, genericType);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getPathParam(parameter, name, decode, paramPlurality, memberClass, defaultValue, annotations, rawType, genericType);
+    }
+  }
+
+  private static final class MatrixBinder extends SourceBinder {
+    private final boolean decode;
+
+    private MatrixBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final MatrixParam annotation, final DefaultValueImpl defaultValue) {
+      super(parameter, parameterIndex, annotations, rawType, genericType, annotation.value(), defaultValue);
+      this.decode = EntityUtil.shouldDecode(annotations);
+    }
+
+    @Override
+    Object getValue(final ContainerRequestContextImpl requestContext) throws IOException {
+      return requestContext.getMatrixParam(name, decode, paramPlurality, defaultValue, annotations, rawType, genericType);
+    }
+  }
+
+  /**
+   * Returns a new {@link ParamBinder} for the specified parameter of a resource method.
+   *
+   * @param parameter The {@link Parameter}.
+   * @param parameterIndex The index of the parameter.
+   * @param annotations The annotations of the parameter.
+   * @param rawType The class of the parameter.
+   * @param genericType The generic type of the parameter.
+   * @param defaultValue The {@link DefaultValueImpl} of the parameter, or {@code null} if the parameter has no default value.
+   * @return A new {@link ParamBinder} for the specified parameter of a resource method.
+   */
+  static ParamBinder newInstance(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType, final DefaultValueImpl defaultValue) {
+    // Same precedence as ContainerRequestContextImpl.findInjectableAnnotation(Annotation[],boolean)
+    for (final Annotation annotation : annotations) // [A]
+      if (annotation.annotationType() == Context.class)
+        return new InjectableBinder(parameter, parameterIndex, annotations, rawType, genericType);
+
+    for (final Annotation annotation : annotations) { // [A]
+      final Class<? extends Annotation> annotationType = annotation.annotationType();
+      if (annotationType == CookieParam.class)
+        return new CookieBinder(parameter, parameterIndex, annotations, rawType, genericType, (CookieParam)annotation, defaultValue);
+
+      if (annotationType == HeaderParam.class)
+        return new HeaderBinder(parameter, parameterIndex, annotations, rawType, genericType, (HeaderParam)annotation, defaultValue);
+
+      if (annotationType == QueryParam.class)
+        return new QueryBinder(parameter, parameterIndex, annotations, rawType, genericType, (QueryParam)annotation, defaultValue);
+
+      if (annotationType == PathParam.class)
+        return new PathBinder(parameter, parameterIndex, annotations, rawType, genericType, (PathParam)annotation, defaultValue);
+
+      if (annotationType == MatrixParam.class)
+        return new MatrixBinder(parameter, parameterIndex, annotations, rawType, genericType, (MatrixParam)annotation, defaultValue);
+
+      if (annotationType == FormParam.class)
+        return new FormBinder(parameter, parameterIndex, annotations, rawType, genericType, (FormParam)annotation, defaultValue);
+    }
+
+    // @Context and entity parameters
+    return new InjectableBinder(parameter, parameterIndex, annotations, rawType, genericType);
+  }
+
+  final Parameter parameter;
+  final int parameterIndex;
+  final Annotation[] annotations;
+  final Class<?> rawType;
+  final Type genericType;
+
+  private ParamBinder(final Parameter parameter, final int parameterIndex, final Annotation[] annotations, final Class<?> rawType, final Type genericType) {
+    this.parameter = parameter;
+    this.parameterIndex = parameterIndex;
+    this.annotations = annotations;
+    this.rawType = rawType;
+    this.genericType = genericType;
+  }
+
+  /**
+   * Returns the argument bound from the specified {@link ContainerRequestContextImpl}.
+   *
+   * @param requestContext The {@link ContainerRequestContextImpl}.
+   * @return The argument bound from the specified {@link ContainerRequestContextImpl}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract Object bind(ContainerRequestContextImpl requestContext) throws IOException;
+}
@@ -28,6 +28,7 @@ final class ParamConverterComponent extends Component<ParamConverterProvider> {
       return components;
 
     components.add(new ParamConverterComponent(clazz, instance, isDefaultProvider, contracts, priority));
+    components.invalidateCache();
     return components;
   }
 
@@ -0,0 +1,54 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Declares that instances of a request-scoped (i.e. non-singleton) resource class are to be recycled across requests, rather than
+ * created, injected and {@linkplain PostConstruct post-constructed} anew for every request.
+ * <p>
+ * A pooled instance is {@linkplain PostConstruct post-constructed} once, when it is created. At the end of each request, its fields
+ * annotated with {@link javax.ws.rs.core.Context} or a {@code @*Param} annotation are reset to {@code null} (or {@code 0} for
+ * primitives), and it is returned to the pool. A pooled resource class must therefore keep all request state in injected fields, and
+ * must only have a public no-arg constructor.
+ * <p>
+ * An instance that is the entity of the response is never returned to the pool. No other escape of an instance from its request is
+ * detected, so a pooled resource class must not be referenced by the entity of the response, or by any other object that outlives the
+ * request.
+ *
+ * @see ServerProperties#RESOURCE_POOL
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Pooled {
+  /**
+   * Returns the maximum number of idle instances retained in the pool, or {@code 0} for the value of
+   * {@link ServerProperties#RESOURCE_POOL_SIZE}.
+   *
+   * @return The maximum number of idle instances retained in the pool, or {@code 0} for the value of
+   *         {@link ServerProperties#RESOURCE_POOL_SIZE}.
+   */
+  int value() default 0;
+}
@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -28,6 +27,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.security.DenyAll;
 import javax.annotation.security.PermitAll;
@@ -59,6 +60,29 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
     return false;
   }
 
+  /**
+   * The maximum number of raw header strings for which the result of content negotiation is memoized in each
+   * {@link ResourceInfoImpl}, so that arbitrary client-provided headers cannot grow the caches without bound. A cache that is full is
+   * cleared before its next entry is added, so that it continues to reflect the headers of recent requests.
+   */
+  static final int MAX_NEGOTIATION_CACHE_SIZE = 256;
+  private static final ParamBinder[] EMPTY_PARAM_BINDERS = {};
+
+  /**
+   * Returns the key of the specified raw {@code Accept} and {@code Accept-Charset} header strings, for use with
+   * {@link #getCompatibleAccept(String,List,List)}.
+   *
+   * @param accept The raw {@code Accept} header string, or {@code null}.
+   * @param acceptCharset The raw {@code Accept-Charset} header string, or {@code null}.
+   * @return The key of the specified raw {@code Accept} and {@code Accept-Charset} header strings.
+   */
+  static String getAcceptKey(final String accept, final String acceptCharset) {
+    if (acceptCharset == null)
+      return accept != null ? accept : "";
+
+    return accept != null ? accept + "\n" + acceptCharset : "\n" + acceptCharset;
+  }
+
   private static Annotation findSecurityAnnotation(final Method method) {
     final Annotation annotation = findSecurityAnnotation(Classes.getAnnotations(method));
     return annotation != null ? annotation : findSecurityAnnotation(method.getDeclaringClass().getAnnotations());
@@ -87,7 +111,9 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
   private final Type methodReturnType;
   private final Class<?> resourceClass;
   private final Object singleton;
+  private final ResourcePool resourcePool;
   private final UriTemplate uriTemplate;
+  private final ResourceInvoker invoker;
   private boolean consumesCalled;
   private boolean producesCalled;
   private Consumes consumes;
@@ -97,6 +123,13 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
   private ServerMediaType[] consumesMediaTypes;
   private ServerMediaType[] producesMediaTypes;
   private DefaultValueImpl[] defaultValues;
+  private ParamBinder[] paramBinders;
+  private Set<String> allowedMethods;
+  private int rank;
+  private int producesRank;
+  private boolean unambiguous;
+  final ConcurrentHashMap<String,Boolean> contentTypeToCompatible = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<String,MediaType[]> acceptToCompatible = new ConcurrentHashMap<>();
 
   ResourceInfoImpl(final ResourceInfos resourceInfos, final HttpMethod httpMethod, final Method method, final String baseUri, final Path classPath, final Path methodPath, final Object singleton) {
     this.resourceInfos = resourceInfos;
@@ -118,9 +151,15 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
       final Field[] fields = ContainerRequestContextImpl.getContextFields(singleton.getClass());
       if (fields.length > 0 && logger.isWarnEnabled())
         logger.warn("Fields with injectable annotations " + Arrays.toString(fields) + " will not be injected on singleton of class " + resourceClass.getName());
+
+      this.resourcePool = null;
+    }
+    else {
+      this.resourcePool = ResourcePool.get(resourceClass);
     }
 
     this.uriTemplate = new UriTemplate(baseUri, classPath, methodPath);
+    this.invoker = ResourceInvoker.newInstance(method);
   }
 
   private String getResourceSignature() {
@@ -212,10 +251,12 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
     final int length = methodParameters.length;
     if (length == 0) {
       defaultValues = DefaultValueImpl.EMPTY_ARRAY;
+      paramBinders = EMPTY_PARAM_BINDERS;
       return;
     }
 
     defaultValues = new DefaultValueImpl[length];
+    paramBinders = new ParamBinder[length];
     for (int i = 0; i < length; ++i) { // [A]
       final Annotation[] parameterAnnotations = methodParameterAnnotations[i];
       for (final Annotation parameterAnnotation : parameterAnnotations) { // [A]
@@ -224,9 +265,21 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
           break;
         }
       }
+
+      paramBinders[i] = ParamBinder.newInstance(methodParameters[i], i, parameterAnnotations, methodParameterTypes[i], methodGenericParameterTypes[i], defaultValues[i]);
     }
   }
 
+  /**
+   * Returns the {@link ParamBinder}s of the parameters of the resource method, which are created in
+   * {@link #initDefaultValues(ComponentSet)}.
+   *
+   * @return The {@link ParamBinder}s of the parameters of the resource method.
+   */
+  ParamBinder[] getParamBinders() {
+    return paramBinders;
+  }
+
   DefaultValueImpl getDefaultValue(final AnnotatedElement element, final int parameterIndex) {
     if (parameterIndex != -1)
       return defaultValues[parameterIndex];
@@ -285,15 +338,77 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
     return singleton;
   }
 
+  /**
+   * Returns the {@link ResourcePool} of the resource class, or {@code null} if instances of the resource class are not pooled.
+   *
+   * @return The {@link ResourcePool} of the resource class, or {@code null} if instances of the resource class are not pooled.
+   */
+  ResourcePool getResourcePool() {
+    return resourcePool;
+  }
+
   boolean isCompatibleContentType(final MediaType contentType) {
     return MediaTypes.getCompatible(getConsumesMediaTypes(), contentType, null).length != 0;
   }
 
+  /**
+   * Tests whether the specified {@code Content-Type} is compatible with the {@link Consumes} media types of this
+   * {@link ResourceInfoImpl}, memoizing the result by the raw header string.
+   *
+   * @param contentTypeKey The raw {@code Content-Type} header string.
+   * @param contentType The parsed {@code Content-Type}.
+   * @return Whether the specified {@code Content-Type} is compatible with the {@link Consumes} media types of this
+   *         {@link ResourceInfoImpl}.
+   */
+  boolean isCompatibleContentType(final String contentTypeKey, final MediaType contentType) {
+    final Boolean cached = contentTypeToCompatible.get(contentTypeKey);
+    if (cached != null)
+      return cached;
+
+    final boolean compatible = isCompatibleContentType(contentType);
+    if (contentTypeToCompatible.size() >= MAX_NEGOTIATION_CACHE_SIZE)
+      contentTypeToCompatible.clear();
+
+    contentTypeToCompatible.put(contentTypeKey, compatible);
+
+    return compatible;
+  }
+
   MediaType[] getCompatibleAccept(final List<MediaType> acceptMediaTypes, final List<String> acceptCharsets) {
     final ServerMediaType[] producesMediaTypes = getProducesMediaTypes();
     return producesMediaTypes == null ? null : MediaTypes.getCompatible(producesMediaTypes, acceptMediaTypes, acceptCharsets);
   }
 
+  /**
+   * Returns the intersect of the {@link Produces} media types of this {@link ResourceInfoImpl} and the specified acceptable media
+   * types, memoizing the result by the raw {@code Accept} and {@code Accept-Charset} header strings. The returned array is shared
+   * amongst all requests with the same key, and is retained by {@link RouteCache}, so it must never be modified. It is only ever read by
+   * {@link ResourceMatch#getCompatibleMediaTypes()}, and is not exposed outside of this package.
+   *
+   * @param acceptKey The key of the raw {@code Accept} and {@code Accept-Charset} header strings, as per
+   *          {@link #getAcceptKey(String,String)}.
+   * @param acceptMediaTypes The parsed {@code Accept} media types.
+   * @param acceptCharsets The {@code Accept-Charset} values.
+   * @return The intersect of the {@link Produces} media types of this {@link ResourceInfoImpl} and the specified acceptable media
+   *         types, or {@code null} if this {@link ResourceInfoImpl} does not declare {@link Produces}.
+   */
+  MediaType[] getCompatibleAccept(final String acceptKey, final List<MediaType> acceptMediaTypes, final List<String> acceptCharsets) {
+    if (getProducesMediaTypes() == null)
+      return null;
+
+    MediaType[] compatible = acceptToCompatible.get(acceptKey);
+    if (compatible != null)
+      return compatible;
+
+    compatible = getCompatibleAccept(acceptMediaTypes, acceptCharsets);
+    if (acceptToCompatible.size() >= MAX_NEGOTIATION_CACHE_SIZE)
+      acceptToCompatible.clear();
+
+    acceptToCompatible.put(acceptKey, compatible);
+
+    return compatible;
+  }
+
   @SuppressWarnings("unchecked")
   boolean checkContentHeader(final HttpHeader<MediaType> httpHeader, final HttpHeadersImpl httpHeaders) {
     final List<?> headerValue = httpHeaders.getMirrorMap().get(httpHeader.getName());
@@ -345,12 +460,11 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
     if (securityAnnotation != null)
       checkAuthorized(securityAnnotation, requestContext);
 
-    try {
-      return requestContext.invokeMethod(resourceMatch.getResourceInstance(requestContext));
-    }
-    catch (final InvocationTargetException e) {
-      throw e.getCause();
-    }
+    return requestContext.invokeMethod(resourceMatch.getResourceInstance(requestContext));
+  }
+
+  ResourceInvoker getInvoker() {
+    return invoker;
   }
 
   HttpMethod getHttpMethod() {
@@ -361,6 +475,61 @@ final class ResourceInfoImpl implements ResourceInfo, Comparable<ResourceInfoImp
     return uriTemplate;
   }
 
+  /**
+   * Returns the immutable set of methods allowed for the {@link UriTemplate} of this {@link ResourceInfoImpl}, which is shared amongst
+   * all {@link ResourceInfoImpl}s with the same {@link UriTemplate}, or {@code null} if this is a sub-resource locator.
+   *
+   * @return The immutable set of methods allowed for the {@link UriTemplate} of this {@link ResourceInfoImpl}.
+   */
+  Set<String> getAllowedMethods() {
+    return allowedMethods;
+  }
+
+  void setAllowedMethods(final Set<String> allowedMethods) {
+    this.allowedMethods = allowedMethods;
+  }
+
+  /**
+   * Returns the rank of this {@link ResourceInfoImpl} in the total order of {@link #compareTo(ResourceInfoImpl)}, which is equal for
+   * {@link ResourceInfoImpl}s of equal precedence.
+   *
+   * @return The rank of this {@link ResourceInfoImpl} in the total order of {@link #compareTo(ResourceInfoImpl)}.
+   */
+  int getRank() {
+    return rank;
+  }
+
+  /**
+   * Returns the rank of this {@link ResourceInfoImpl} in the total order of the quality of its {@link #getProducesMediaTypes()}, which
+   * breaks ties amongst {@link ResourceInfoImpl}s of equal {@linkplain #getRank() rank}.
+   *
+   * @return The rank of this {@link ResourceInfoImpl} in the total order of the quality of its {@link #getProducesMediaTypes()}.
+   */
+  int getProducesRank() {
+    return producesRank;
+  }
+
+  void setRank(final int rank, final int producesRank) {
+    this.rank = rank;
+    this.producesRank = producesRank;
+  }
+
+  /**
+   * Returns whether no other {@link ResourceInfoImpl} of the same {@link HttpMethod} shares the {@linkplain #getRank() rank} of this
+   * {@link ResourceInfoImpl}, in which case a match of this {@link ResourceInfoImpl} never needs to be compared to a runner-up.
+   *
+   * @return Whether no other {@link ResourceInfoImpl} of the same {@link HttpMethod} shares the {@linkplain #getRank() rank} of this
+   *         {@link ResourceInfoImpl}.
+   * @see RouteAnalyzer
+   */
+  boolean isUnambiguous() {
+    return unambiguous;
+  }
+
+  void setUnambiguous(final boolean unambiguous) {
+    this.unambiguous = unambiguous;
+  }
+
   boolean isRestricted() {
     return securityAnnotation instanceof DenyAll || securityAnnotation instanceof RolesAllowed;
   }
@@ -22,15 +22,33 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.ws.rs.DefaultValue;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.ext.ParamConverterProvider;
 
 import org.libj.lang.Classes;
+import org.libj.lang.Systems;
+import org.libj.util.ArrayUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class ResourceInfos extends ArrayList<ResourceInfoImpl> {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceInfos.class);
+  private static final Comparator<ResourceInfoImpl> PRODUCES_QUALITY_COMPARATOR = (final ResourceInfoImpl o1, final ResourceInfoImpl o2) -> ArrayUtil.compare(o1.getProducesMediaTypes(), o2.getProducesMediaTypes(), MediaTypes.QUALITY_COMPARATOR);
   private final HashMap<Class<?>,HashMap<AnnotatedElement,DefaultValueImpl>> classToDefaultValues = new HashMap<>();
+  private ResourceRouter router;
+  private HashMap<String,ResourceRouter> methodToRouter;
+  private ResourceRouter locatorRouter;
+  private RouteCache routeCache;
 
   static DefaultValueImpl digestDefaultValue(final DefaultValue defaultValue, final Class<?> clazz, final Type type, final Annotation[] annotations, final ComponentSet<Component<ParamConverterProvider>> paramConverterComponents) throws IOException {
     final String annotatedValue = defaultValue.value();
@@ -65,4 +83,151 @@ class ResourceInfos extends ArrayList<ResourceInfoImpl> {
   HashMap<AnnotatedElement,DefaultValueImpl> getDefaultValues(final Class<?> cls) {
     return classToDefaultValues.get(cls);
   }
-}
\ No newline at end of file
+
+  private ResourceRouter newRouter(final String method) {
+    final ArrayList<ResourceInfoImpl> resourceInfos = new ArrayList<>();
+    for (int i = 0, i$ = size(); i < i$; ++i) { // [RA]
+      final ResourceInfoImpl resourceInfo = get(i);
+      final HttpMethod httpMethod = resourceInfo.getHttpMethod();
+      if (httpMethod == null || httpMethod.value().equals(method))
+        resourceInfos.add(resourceInfo);
+    }
+
+    return new ResourceRouter(resourceInfos);
+  }
+
+  /**
+   * Assigns each {@link ResourceInfoImpl} its {@linkplain ResourceInfoImpl#getRank() rank} and
+   * {@linkplain ResourceInfoImpl#getProducesRank() produces rank}, so that the precedence of matched resources is decided with int
+   * comparisons at request time.
+   */
+  private void initRanks() {
+    final int size = size();
+    final ResourceInfoImpl[] byProduces = toArray(new ResourceInfoImpl[size]);
+    Arrays.sort(byProduces, PRODUCES_QUALITY_COMPARATOR);
+    final IdentityHashMap<ResourceInfoImpl,Integer> producesRanks = new IdentityHashMap<>(size);
+    for (int i = 0, rank = 0; i < size; ++i) { // [A]
+      if (i > 0 && PRODUCES_QUALITY_COMPARATOR.compare(byProduces[i - 1], byProduces[i]) != 0)
+        ++rank;
+
+      producesRanks.put(byProduces[i], rank);
+    }
+
+    for (int i = 0, rank = 0; i < size; ++i) { // [RA]
+      final ResourceInfoImpl resourceInfo = get(i);
+      if (i > 0 && get(i - 1).compareTo(resourceInfo) != 0)
+        ++rank;
+
+      resourceInfo.setRank(rank, producesRanks.get(resourceInfo));
+    }
+  }
+
+  /**
+   * Builds the {@link ResourceRouter}s of this {@link ResourceInfos}, which must be called once after this list has been sorted. A
+   * {@link ResourceRouter} is built for each distinct {@link HttpMethod}, and each {@link ResourceInfoImpl} is assigned the immutable
+   * set of methods allowed for its {@link UriTemplate}.
+   */
+  void initRouter() {
+    if (router != null)
+      throw new IllegalStateException();
+
+    initRanks();
+    final List<List<ResourceInfoImpl>> ambiguities = RouteAnalyzer.analyze(this);
+    if (ambiguities.size() > 0) {
+      final boolean strict = Systems.hasProperty(ServerProperties.STRICT_ROUTES);
+      final StringBuilder b = new StringBuilder();
+      for (int i = 0, i$ = ambiguities.size(); i < i$; ++i) { // [RA]
+        final List<ResourceInfoImpl> ambiguity = ambiguities.get(i);
+        b.setLength(0);
+        b.append("Multiple resources match ambiguously: [").append(ambiguity.get(0));
+        for (int j = 1, j$ = ambiguity.size(); j < j$; ++j) // [RA]
+          b.append(", ").append(ambiguity.get(j));
+
+        b.append(']');
+        if (strict)
+          throw new IllegalStateException(b.toString());
+
+        if (logger.isWarnEnabled()) { logger.warn(b.toString()); }
+      }
+    }
+
+    router = new ResourceRouter(this);
+
+    final HashMap<String,TreeSet<String>> uriTemplateToAllowedMethods = new HashMap<>();
+    for (int i = 0, i$ = size(); i < i$; ++i) { // [RA]
+      final ResourceInfoImpl resourceInfo = get(i);
+      final HttpMethod httpMethod = resourceInfo.getHttpMethod();
+      if (httpMethod != null)
+        uriTemplateToAllowedMethods.computeIfAbsent(resourceInfo.getUriTemplate().toString(), (final String k) -> new TreeSet<>()).add(httpMethod.value());
+    }
+
+    methodToRouter = new HashMap<>();
+    final HashMap<TreeSet<String>,Set<String>> immutableAllowedMethods = new HashMap<>();
+    for (int i = 0, i$ = size(); i < i$; ++i) { // [RA]
+      final ResourceInfoImpl resourceInfo = get(i);
+      final HttpMethod httpMethod = resourceInfo.getHttpMethod();
+      if (httpMethod == null)
+        continue;
+
+      final TreeSet<String> allowedMethods = uriTemplateToAllowedMethods.get(resourceInfo.getUriTemplate().toString());
+      resourceInfo.setAllowedMethods(immutableAllowedMethods.computeIfAbsent(allowedMethods, Collections::unmodifiableSet));
+      methodToRouter.computeIfAbsent(httpMethod.value(), this::newRouter);
+    }
+
+    locatorRouter = newRouter(null);
+    if (Systems.hasProperty(ServerProperties.ROUTE_CACHE))
+      routeCache = new RouteCache(Systems.getProperty(ServerProperties.ROUTE_CACHE_SIZE, ServerProperties.ROUTE_CACHE_SIZE_DEFAULT));
+  }
+
+  /**
+   * Returns the {@link RouteCache} of route-match decisions, or {@code null} if {@link ServerProperties#ROUTE_CACHE} is not enabled.
+   *
+   * @return The {@link RouteCache} of route-match decisions, or {@code null} if {@link ServerProperties#ROUTE_CACHE} is not enabled.
+   */
+  RouteCache getRouteCache() {
+    return routeCache;
+  }
+
+  /**
+   * Returns the {@link ResourceRouter} of the {@link ResourceInfoImpl}s for the specified request method.
+   *
+   * @param method The request method.
+   * @return The {@link ResourceRouter} of the {@link ResourceInfoImpl}s for the specified request method.
+   */
+  ResourceRouter getRouter(final String method) {
+    final ResourceRouter router = methodToRouter.get(method);
+    return router != null ? router : locatorRouter;
+  }
+
+  /**
+   * Returns the union of the immutable sets of methods allowed for the {@link UriTemplate}s that match the specified path, or
+   * {@code null} if no {@link UriTemplate} matches the specified path.
+   *
+   * @param path The normalized request path (with matrix parameters stripped out).
+   * @return The union of the immutable sets of methods allowed for the {@link UriTemplate}s that match the specified path, or
+   *         {@code null} if no {@link UriTemplate} matches the specified path.
+   */
+  Set<String> getAllowedMethods(final String path) {
+    Set<String> allowedMethods = null;
+    TreeSet<String> union = null;
+    final ResourceInfoImpl[] candidates = router.route(path);
+    for (int i = 0, i$ = candidates.length; i < i$; ++i) { // [A]
+      final ResourceInfoImpl resourceInfo = candidates[i];
+      final Set<String> methods = resourceInfo.getAllowedMethods();
+      if (methods == null || methods == allowedMethods || union != null && union.containsAll(methods) || !resourceInfo.getUriTemplate().matches(path))
+        continue;
+
+      if (allowedMethods == null) {
+        allowedMethods = methods;
+      }
+      else {
+        if (union == null)
+          union = new TreeSet<>(allowedMethods);
+
+        union.addAll(methods);
+      }
+    }
+
+    return union != null ? Collections.unmodifiableSet(union) : allowedMethods;
+  }
+}
@@ -0,0 +1,229 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.libj.lang.Classes;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invoker of a resource method, which is created once per {@link ResourceInfoImpl} at startup.
+ * <p>
+ * If the declaring class, parameter types and return type of the resource method are public and visible to the class loader of this
+ * class, a subclass of {@link ResourceInvoker} is generated with ASM, which calls the resource method directly with an
+ * {@code invokevirtual} (or {@code invokeinterface} or {@code invokestatic}) instruction, and unboxes primitive arguments inline.
+ * Otherwise, or if the definition of the generated class is not allowed, the resource method is invoked with a {@link MethodHandle},
+ * and as a last resort with {@link Method#invoke(Object,Object...)}.
+ * <p>
+ * Exceptions thrown by the resource method are propagated as-is, and are not wrapped in {@link InvocationTargetException}.
+ */
+abstract class ResourceInvoker {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceInvoker.class);
+  private static final String packageName = ResourceInvoker.class.getPackage().getName().replace('.', '/');
+  private static final String superClassName = Type.getInternalName(ResourceInvoker.class);
+  private static final String invokeDesc = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+  private static final MethodType invokeType = MethodType.methodType(Object.class, Object.class, Object[].class);
+  private static final AtomicInteger serial = new AtomicInteger(1);
+
+  private static final class MethodHandleInvoker extends ResourceInvoker {
+    private final MethodHandle methodHandle;
+
+    private MethodHandleInvoker(final MethodHandle methodHandle) {
+      this.methodHandle = methodHandle;
+    }
+
+    @Override
+    Object invoke(final Object instance, final Object[] args) throws Throwable {
+      return methodHandle.invokeExact(instance, args);
+    }
+  }
+
+  private static final class ReflectInvoker extends ResourceInvoker {
+    private final Method method;
+
+    private ReflectInvoker(final Method method) {
+      this.method = method;
+    }
+
+    @Override
+    Object invoke(final Object instance, final Object[] args) throws Throwable {
+      try {
+        return method.invoke(instance, args);
+      }
+      catch (final InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@link ResourceInvoker} for the specified resource method.
+   *
+   * @param method The resource method.
+   * @return A new {@link ResourceInvoker} for the specified resource method.
+   */
+  static ResourceInvoker newInstance(final Method method) {
+    if (isLinkable(method)) {
+      try {
+        return generate(method);
+      }
+      catch (final RuntimeException | LinkageError e) {
+        if (logger.isDebugEnabled()) { logger.debug("Unable to generate invoker for " + method + ", falling back to MethodHandle", e); }
+      }
+    }
+
+    try {
+      MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+      final int parameterCount = method.getParameterCount();
+      if (Modifier.isStatic(method.getModifiers()))
+        methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+
+      return new MethodHandleInvoker(methodHandle.asSpreader(Object[].class, parameterCount).asType(invokeType));
+    }
+    catch (final IllegalAccessException e) {
+      if (logger.isDebugEnabled()) { logger.debug("Unable to unreflect " + method + ", falling back to Method.invoke", e); }
+      return new ReflectInvoker(method);
+    }
+  }
+
+  private static boolean isVisible(Class<?> cls) {
+    while (cls.isArray())
+      cls = cls.getComponentType();
+
+    if (cls.isPrimitive())
+      return true;
+
+    if (!Modifier.isPublic(cls.getModifiers()))
+      return false;
+
+    try {
+      return Class.forName(cls.getName(), false, ResourceInvoker.class.getClassLoader()) == cls;
+    }
+    catch (final ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static boolean isLinkable(final Method method) {
+    if (!Modifier.isPublic(method.getModifiers()) || !isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType()))
+      return false;
+
+    for (final Class<?> parameterType : method.getParameterTypes()) // [A]
+      if (!isVisible(parameterType))
+        return false;
+
+    return true;
+  }
+
+  private static ResourceInvoker generate(final Method method) {
+    final String className = packageName + "/ResourceInvoker" + serial.getAndIncrement();
+    final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+    classWriter.visit(V1_8, ACC_FINAL | ACC_SUPER, className, null, superClassName, null);
+
+    final MethodVisitor constructorVisitor = classWriter.visitMethod(0, "<init>", "()V", null, null);
+    constructorVisitor.visitCode();
+    constructorVisitor.visitVarInsn(ALOAD, 0);
+    constructorVisitor.visitMethodInsn(INVOKESPECIAL, superClassName, "<init>", "()V", false);
+    constructorVisitor.visitInsn(RETURN);
+    constructorVisitor.visitMaxs(0, 0);
+    constructorVisitor.visitEnd();
+
+    final Class<?> declaringClass = method.getDeclaringClass();
+    final String owner = Type.getInternalName(declaringClass);
+    final boolean isStatic = Modifier.isStatic(method.getModifiers());
+    final boolean isInterface = declaringClass.isInterface();
+
+    final MethodVisitor invokeVisitor = classWriter.visitMethod(0, "invoke", invokeDesc, null, new String[] {"java/lang/Throwable"});
+    invokeVisitor.visitCode();
+    if (!isStatic) {
+      invokeVisitor.visitVarInsn(ALOAD, 1);
+      invokeVisitor.visitTypeInsn(CHECKCAST, owner);
+    }
+
+    final Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0, i$ = parameterTypes.length; i < i$; ++i) { // [A]
+      invokeVisitor.visitVarInsn(ALOAD, 2);
+      invokeVisitor.visitLdcInsn(i);
+      invokeVisitor.visitInsn(AALOAD);
+      unbox(invokeVisitor, parameterTypes[i]);
+    }
+
+    invokeVisitor.visitMethodInsn(isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, owner, method.getName(), Type.getMethodDescriptor(method), isInterface);
+    box(invokeVisitor, method.getReturnType());
+    invokeVisitor.visitInsn(ARETURN);
+    invokeVisitor.visitMaxs(0, 0);
+    invokeVisitor.visitEnd();
+    classWriter.visitEnd();
+
+    final Class<?> cls = EndpointFactory.defineClass(classWriter.toByteArray(), className.replace('/', '.'));
+    try {
+      return (ResourceInvoker)cls.getDeclaredConstructor().newInstance();
+    }
+    catch (final IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void unbox(final MethodVisitor visitor, final Class<?> type) {
+    if (!type.isPrimitive()) {
+      if (type != Object.class)
+        visitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+
+      return;
+    }
+
+    final String wrapper = Type.getInternalName(Classes.box(type));
+    visitor.visitTypeInsn(CHECKCAST, wrapper);
+    visitor.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+  }
+
+  private static void box(final MethodVisitor visitor, final Class<?> type) {
+    if (type == void.class) {
+      visitor.visitInsn(ACONST_NULL);
+    }
+    else if (type.isPrimitive()) {
+      final Class<?> wrapperType = Classes.box(type);
+      visitor.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapperType), "valueOf", "(" + Type.getDescriptor(type) + ")" + Type.getDescriptor(wrapperType), false);
+    }
+  }
+
+  ResourceInvoker() {
+  }
+
+  /**
+   * Invokes the resource method on the specified instance with the specified arguments.
+   *
+   * @param instance The instance on which to invoke the resource method, which is ignored if the resource method is static.
+   * @param args The arguments of the resource method.
+   * @return The value returned by the resource method, or {@code null} if the resource method is {@code void}.
+   * @throws Throwable If the resource method throws a {@link Throwable}.
+   */
+  abstract Object invoke(Object instance, Object[] args) throws Throwable;
+}
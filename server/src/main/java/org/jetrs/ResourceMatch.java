@@ -20,59 +20,101 @@ import static org.libj.lang.Assertions.*;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Comparator;
+import java.util.regex.Matcher;
 
 import javax.ws.rs.core.MediaType;
 
+import org.libj.lang.Numbers;
 import org.libj.net.URLs;
 import org.libj.util.ArrayUtil;
 
 class ResourceMatch implements Comparable<ResourceMatch> {
-  private static final Comparator<MultivaluedArrayMap<String,String>> PATH_PARAMETERS_COMPARATOR = new Comparator<MultivaluedArrayMap<String,String>>() {
-    @Override
-    public int compare(final MultivaluedArrayMap<String,String> o1, final MultivaluedArrayMap<String,String> o2) {
-      int s1 = o1.size();
-      int s2 = o2.size();
-      if (s1 > s2)
-        return -1;
-
-      if (s1 < s2)
-        return 1;
-
-      s1 = o1.values().toString().length();
-      s2 = o2.values().toString().length();
-      if (s1 > s2)
-        return -1;
-
-      if (s1 < s2)
-        return 1;
-
-      return 0;
+  private static final long[] EMPTY_REGION_START_ENDS = {};
+
+  /**
+   * Returns the total length of the values of the path parameters of the specified {@link Matcher} (counting {@code "null"} for an
+   * unmatched group), plus 2 per path parameter, computed from the region offsets of its groups, without the extraction of any group
+   * strings.
+   * <p>
+   * The result is {@code 2 * distinctPathParams} shorter than the length of {@code pathParameters.values().toString()}, by which
+   * matches were formerly ordered. The ordering is nevertheless unchanged, because {@link #compareTo(ResourceMatch)} compares
+   * {@link UriTemplate#getDistinctPathParams()} first, so that lengths are only compared between matches with an equal number of path
+   * parameters, for which the difference is the same constant.
+   */
+  private static int getValuesLength(final Matcher matcher, final String[] pathParamNames) {
+    final int len = pathParamNames.length;
+    int valuesLength = 2 * len;
+    for (int i = 0; i < len; ++i) { // [A]
+      final int start = matcher.start(pathParamNames[i]);
+      valuesLength += start < 0 ? 4 : matcher.end(pathParamNames[i]) - start; // "null"
     }
-  };
+
+    return valuesLength;
+  }
 
   private final ResourceInfoImpl resourceInfo;
   private final Class<?> resourceClass;
   private Object instance;
+  private boolean isPooled;
 
-  private final String uriEncoded;
+  private final Matcher matcher;
+  private final int baseUriLen;
+  private final int valuesLength;
+  private String uriEncoded;
   private String uriDecoded;
   private final MediaType[] compatibleMediaTypes;
-  private final String[] pathSegmentParamNames;
-  private final MultivaluedArrayMap<String,String> pathParameters;
-  private final long[] regionStartEnds;
+  private MultivaluedArrayMap<String,String> pathParameters;
+  private long[] regionStartEnds;
 
-  ResourceMatch(final ResourceInfoImpl resourceInfo, final String uriEncoded, final MediaType[] compatibleMediaTypes, final String[] pathSegmentParamNames, final long[] regionStartEnds, final MultivaluedArrayMap<String,String> pathParameters) {
+  /**
+   * Creates a new {@link ResourceMatch} that holds the state of the specified {@link Matcher}, from which the path parameters are
+   * extracted only if this {@link ResourceMatch} is selected, or if its matched URI is requested.
+   *
+   * @param resourceInfo The matched {@link ResourceInfoImpl}.
+   * @param requestUriMatched The normalized request URI against which the {@link UriTemplate} of {@code resourceInfo} was matched.
+   * @param compatibleMediaTypes The compatible {@link MediaType}s, which can be null or non-empty.
+   * @param matcher The {@link Matcher} that found the match, or {@code null} if the {@link UriTemplate} of {@code resourceInfo} is
+   *          {@linkplain UriTemplate#isLiteral() literal}.
+   * @param baseUriLen The length of the base URI in {@code requestUriMatched}.
+   */
+  ResourceMatch(final ResourceInfoImpl resourceInfo, final String requestUriMatched, final MediaType[] compatibleMediaTypes, final Matcher matcher, final int baseUriLen) {
     this.resourceInfo = resourceInfo;
     this.resourceClass = resourceInfo.getResourceClass();
     this.instance = resourceInfo.getSingleton();
 
-    this.uriEncoded = assertNotNull(uriEncoded);
     this.compatibleMediaTypes = compatibleMediaTypes; // Can be null or non-empty
+    this.matcher = matcher;
+    this.baseUriLen = baseUriLen;
+    if (matcher == null) {
+      // Literal matches share the empty path parameters map and region array
+      this.uriEncoded = assertNotNull(requestUriMatched);
+      this.valuesLength = 0;
+      this.pathParameters = EntityUtil.EMPTY_MAP;
+      this.regionStartEnds = EMPTY_REGION_START_ENDS;
+    }
+    else {
+      this.valuesLength = getValuesLength(matcher, resourceInfo.getUriTemplate().getPathParamNames());
+    }
+  }
 
-    this.pathSegmentParamNames = assertNotNull(pathSegmentParamNames);
-    this.regionStartEnds = assertNotNull(regionStartEnds);
-    this.pathParameters = assertNotNull(pathParameters);
+  private void extractPathParameters() {
+    final UriTemplate uriTemplate = resourceInfo.getUriTemplate();
+    final String[] pathParamNames = uriTemplate.getPathParamNames();
+    final String[] pathParamKeys = uriTemplate.getPathParamKeys();
+    final int len = pathParamNames.length;
+    final MultivaluedArrayMap<String,String> pathParameters = new MultivaluedArrayHashMap<>(len);
+    final long[] regionStartEnds = new long[len];
+    for (int i = 0; i < len; ++i) { // [A]
+      final String pathParamName = pathParamNames[i];
+      pathParameters.add(pathParamKeys[i], matcher.group(pathParamName));
+
+      final int start = matcher.start(pathParamName) - baseUriLen;
+      final int end = matcher.end(pathParamName) - baseUriLen;
+      regionStartEnds[i] = Numbers.Composite.encode(start, end);
+    }
+
+    this.pathParameters = pathParameters;
+    this.regionStartEnds = regionStartEnds;
   }
 
   ResourceInfoImpl getResourceInfo() {
@@ -80,25 +122,32 @@ class ResourceMatch implements Comparable<ResourceMatch> {
   }
 
   String[] getPathParamNames() {
-    return pathSegmentParamNames;
+    return resourceInfo.getUriTemplate().getPathParamNames();
   }
 
   long[] getRegionStartEnds() {
+    if (regionStartEnds == null)
+      extractPathParameters();
+
     return regionStartEnds;
   }
 
   String getUriEncoded() {
-    return uriEncoded;
+    return uriEncoded == null ? uriEncoded = matcher.group() : uriEncoded;
   }
 
   String getUriDecoded() {
-    return uriDecoded == null ? uriDecoded = URLs.decodePath(uriEncoded) : uriDecoded;
+    return uriDecoded == null ? uriDecoded = URLs.decodePath(getUriEncoded()) : uriDecoded;
   }
 
   /**
    * Returns the {@link MediaType}s that represent the intersect of the set of {@link MediaType}s producible by the resource, and the
    * set of {@link MediaType}s acceptable by the request.
    *
+   * <p>
+   * The returned array is shared with the negotiation cache of the {@link ResourceInfoImpl} and with {@link RouteCache}, and must not be
+   * modified.
+   *
    * @return The {@link MediaType}s that represent the intersect of the set of {@link MediaType}s producible by the resource, and the
    *         set of {@link MediaType}s acceptable by the request.
    */
@@ -107,10 +156,37 @@ class ResourceMatch implements Comparable<ResourceMatch> {
   }
 
   Object getResourceInstance(final ContainerRequestContextImpl requestContext) throws IllegalAccessException, InstantiationException, IOException, InvocationTargetException {
-    return instance == null ? instance = requestContext.newResourceInstance(resourceClass) : instance;
+    if (instance == null) {
+      final ResourcePool resourcePool = resourceInfo.getResourcePool();
+      if (resourcePool != null) {
+        instance = resourcePool.borrow(requestContext);
+        isPooled = true;
+      }
+      else {
+        instance = requestContext.newResourceInstance(resourceClass);
+      }
+    }
+
+    return instance;
+  }
+
+  /**
+   * Returns the resource instance to its {@link ResourcePool}, if it was borrowed from one.
+   *
+   * @param entity The entity of the response, or {@code null} if there is none.
+   */
+  void releaseResourceInstance(final Object entity) {
+    if (isPooled) {
+      isPooled = false;
+      resourceInfo.getResourcePool().release(instance, entity);
+      instance = null;
+    }
   }
 
   MultivaluedArrayMap<String,String> getPathParameters() {
+    if (pathParameters == null)
+      extractPathParameters();
+
     return pathParameters;
   }
 
@@ -120,11 +196,16 @@ class ResourceMatch implements Comparable<ResourceMatch> {
 
   @Override
   public int compareTo(final ResourceMatch o) {
-    int c = resourceInfo.compareTo(o.resourceInfo);
+    int c = Integer.compare(resourceInfo.getRank(), o.resourceInfo.getRank());
+    if (c != 0)
+      return c;
+
+    // Prefer more distinct path parameters, and then longer path parameter values
+    c = Integer.compare(o.resourceInfo.getUriTemplate().getDistinctPathParams(), resourceInfo.getUriTemplate().getDistinctPathParams());
     if (c != 0)
       return c;
 
-    c = PATH_PARAMETERS_COMPARATOR.compare(getPathParameters(), o.getPathParameters());
+    c = Integer.compare(o.valuesLength, valuesLength);
     if (c != 0)
       return c;
 
@@ -132,7 +213,7 @@ class ResourceMatch implements Comparable<ResourceMatch> {
     if (c != 0)
       return c;
 
-    return ArrayUtil.compare(resourceInfo.getProducesMediaTypes(), o.resourceInfo.getProducesMediaTypes(), MediaTypes.QUALITY_COMPARATOR);
+    return Integer.compare(resourceInfo.getProducesRank(), o.resourceInfo.getProducesRank());
   }
 
   @Override
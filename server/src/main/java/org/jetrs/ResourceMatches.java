@@ -25,7 +25,12 @@ import javax.ws.rs.InternalServerErrorException;
 
 import org.libj.util.TransList;
 
+/**
+ * The {@link ResourceMatch}es of a request, of which only the first is guaranteed to be the best match. The remaining
+ * {@link ResourceMatch}es are sorted only when first needed by the {@link List} views of the matched resources and URIs.
+ */
 class ResourceMatches extends ArrayList<ResourceMatch> {
+  private boolean isTailSorted;
   private List<Object> matchedResources;
   private List<String> matchedURIsEncoded;
   private List<String> matchedURIsDecoded;
@@ -35,8 +40,22 @@ class ResourceMatches extends ArrayList<ResourceMatch> {
     return !super.contains(e) && super.add(e);
   }
 
+  private void sortTail() {
+    if (isTailSorted)
+      return;
+
+    isTailSorted = true;
+    final int size = size();
+    if (size > 2)
+      subList(1, size).sort(null);
+  }
+
   List<Object> getMatchedResources(final ContainerRequestContextImpl requestContext) {
-    return matchedResources == null ? matchedResources = new TransList<>(this, (final Integer i, final ResourceMatch s) -> {
+    if (matchedResources != null)
+      return matchedResources;
+
+    sortTail();
+    return matchedResources = new TransList<>(this, (final Integer i, final ResourceMatch s) -> {
       try {
         return s.getResourceInstance(requestContext);
       }
@@ -50,10 +69,11 @@ class ResourceMatches extends ArrayList<ResourceMatch> {
 
         throw new InternalServerErrorException(cause);
       }
-    }, null) : matchedResources;
+    }, null);
   }
 
   List<String> getMatchedURIs(final boolean decode) {
+    sortTail();
     if (decode)
       return matchedURIsDecoded == null ? matchedURIsDecoded = new TransList<>(this, (final Integer i, final ResourceMatch s) -> s.getUriDecoded(), null) : matchedURIsDecoded;
 
@@ -0,0 +1,347 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.Context;
+
+import org.jetrs.InjectionPlan.InjectableConstructor;
+import org.jetrs.InjectionPlan.InjectableField;
+import org.libj.lang.Systems;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded, lock-free pool of the instances of a {@link Pooled} request-scoped resource class. An instance is borrowed when a request
+ * first needs it, and is released when the request is closed, at which point its injected fields are reset, and it is returned to the
+ * pool if the pool has fewer than its maximum number of idle instances.
+ * <p>
+ * The only escape of an instance from its request that is detected is the instance being the entity of the response itself, in which
+ * case it is counted as {@linkplain #getLeakedCount() leaked} and is never returned to the pool. An instance that is referenced by the
+ * entity of the response, by a sub-resource, or by any other object that outlives the request is not detected, and is returned to
+ * the pool regardless.
+ */
+public final class ResourcePool {
+  private static final Logger logger = LoggerFactory.getLogger(ResourcePool.class);
+  static final ConcurrentHashMap<Class<?>,ResourcePool> pools = new ConcurrentHashMap<>();
+
+  // Cached for resource classes that are refused, so that they are not inspected (and warned about) again
+  private static final ResourcePool NOT_POOLED = new ResourcePool();
+
+  /**
+   * Returns the {@link ResourcePool} of the specified resource class, or {@code null} if instances of the resource class are not
+   * pooled.
+   *
+   * @param resourceClass The resource class.
+   * @return The {@link ResourcePool} of the specified resource class, or {@code null} if instances of the resource class are not
+   *         pooled.
+   */
+  public static ResourcePool getInstance(final Class<?> resourceClass) {
+    final ResourcePool pool = pools.get(resourceClass);
+    return pool == NOT_POOLED ? null : pool;
+  }
+
+  /**
+   * Returns the {@link ResourcePool} of the specified resource class, or {@code null} if the resource class is not to be pooled, either
+   * because it is not annotated with {@link Pooled} and {@link ServerProperties#RESOURCE_POOL} is not enabled, because it has a public
+   * constructor with parameters, or because it is not annotated with {@link Pooled} and has an instance field that is neither injected
+   * nor final and of an immutable type.
+   *
+   * @param resourceClass The resource class.
+   * @return The {@link ResourcePool} of the specified resource class, or {@code null} if the resource class is not to be pooled.
+   */
+  static ResourcePool get(final Class<?> resourceClass) {
+    return get(resourceClass, Systems.hasProperty(ServerProperties.RESOURCE_POOL));
+  }
+
+  /**
+   * Returns the {@link ResourcePool} of the specified resource class, or {@code null} if the resource class is not to be pooled.
+   *
+   * @param resourceClass The resource class.
+   * @param poolAll Whether resource classes that are not annotated with {@link Pooled} are to be pooled.
+   * @return The {@link ResourcePool} of the specified resource class, or {@code null} if the resource class is not to be pooled.
+   */
+  static ResourcePool get(final Class<?> resourceClass, final boolean poolAll) {
+    final Pooled pooled = resourceClass.getAnnotation(Pooled.class);
+    if (pooled == null && !poolAll)
+      return null;
+
+    final ResourcePool pool = pools.computeIfAbsent(resourceClass, (final Class<?> c) -> newInstance(c, pooled));
+    return pool == NOT_POOLED ? null : pool;
+  }
+
+  private static ResourcePool newInstance(final Class<?> resourceClass, final Pooled pooled) {
+    final InjectionPlan injectionPlan = InjectionPlan.get(resourceClass);
+    for (final InjectableConstructor constructor : injectionPlan.constructors) { // [A]
+      if (constructor.parameters.length > 0) {
+        if (logger.isWarnEnabled()) { logger.warn((pooled != null ? "@Pooled resource class " : "Resource class ") + resourceClass.getName() + " will not be pooled, because it has a public constructor with parameters: " + constructor.constructor); }
+        return NOT_POOLED;
+      }
+    }
+
+    // Without an explicit @Pooled, state held in a field that is not reset could be carried into the request of another user. A final
+    // field can still hold mutable state (e.g. a StringBuilder), so only final fields of immutable types are accepted.
+    if (pooled == null) {
+      for (Class<?> cls = resourceClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) { // [N]
+        for (final Field field : cls.getDeclaredFields()) { // [A]
+          final int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || field.isSynthetic())
+            continue;
+
+          if (Modifier.isFinal(modifiers) ? !isImmutable(field.getType()) : !isInjectable(field.getAnnotations())) {
+            if (logger.isWarnEnabled()) { logger.warn("Resource class " + resourceClass.getName() + " will not be pooled, because it has a field that is neither injected nor final and of an immutable type: " + field); }
+            return NOT_POOLED;
+          }
+        }
+      }
+    }
+
+    final int maxSize = pooled != null && pooled.value() > 0 ? pooled.value() : Systems.getProperty(ServerProperties.RESOURCE_POOL_SIZE, ServerProperties.RESOURCE_POOL_SIZE_DEFAULT);
+    return new ResourcePool(resourceClass, injectionPlan, maxSize);
+  }
+
+  private static boolean isInjectable(final Annotation[] annotations) {
+    for (final Annotation annotation : annotations) { // [A]
+      final Class<? extends Annotation> annotationType = annotation.annotationType();
+      if (annotationType == Context.class)
+        return true;
+
+      for (final Class<Annotation> injectableAnnotationType : ContainerRequestContextImpl.injectableAnnotationTypes) // [A]
+        if (annotationType == injectableAnnotationType)
+          return true;
+    }
+
+    return false;
+  }
+
+  private static boolean isImmutable(final Class<?> type) {
+    return type.isPrimitive() || type.isEnum() || type == String.class || type == Boolean.class || type == Character.class || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class || type == Float.class || type == Double.class;
+  }
+
+  private final Class<?> resourceClass;
+  private final int maxSize;
+  private final InjectableField[] resetFields;
+  private final Object[] resetValues;
+
+  private final ConcurrentLinkedQueue<Object> idle = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicInteger outstandingCount = new AtomicInteger();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
+  private final LongAdder leaked = new LongAdder();
+
+  private ResourcePool() {
+    this.resourceClass = null;
+    this.maxSize = 0;
+    this.resetFields = null;
+    this.resetValues = null;
+  }
+
+  private ResourcePool(final Class<?> resourceClass, final InjectionPlan injectionPlan, final int maxSize) {
+    this.resourceClass = resourceClass;
+    this.maxSize = maxSize;
+
+    final ArrayList<InjectableField> resetFields = new ArrayList<>();
+    for (final InjectableField field : injectionPlan.fields) // [A]
+      if (isInjectable(field.annotations))
+        resetFields.add(field);
+
+    final int size = resetFields.size();
+    this.resetFields = resetFields.toArray(new InjectableField[size]);
+    this.resetValues = new Object[size];
+    for (int i = 0; i < size; ++i) { // [A]
+      final Class<?> rawType = this.resetFields[i].rawType;
+      if (rawType.isPrimitive())
+        resetValues[i] = Array.get(Array.newInstance(rawType, 1), 0);
+    }
+  }
+
+  /**
+   * Returns an idle instance from this pool, injected for the specified {@link ContainerRequestContextImpl}, or a new instance if this
+   * pool has no idle instances.
+   *
+   * @param requestContext The {@link ContainerRequestContextImpl}.
+   * @return An instance of the resource class, injected for the specified {@link ContainerRequestContextImpl}.
+   * @throws IllegalAccessException If an illegal access error has occurred.
+   * @throws InstantiationException If an instantiation error has occurred.
+   * @throws IOException If an I/O error has occurred.
+   * @throws InvocationTargetException If the constructor of the resource class has thrown an exception.
+   */
+  Object borrow(final ContainerRequestContextImpl requestContext) throws IllegalAccessException, InstantiationException, IOException, InvocationTargetException {
+    final Object instance = poll();
+    if (instance == null) {
+      final Object created = requestContext.newResourceInstance(resourceClass);
+      this.created.increment();
+      outstandingCount.incrementAndGet();
+      return created;
+    }
+
+    try {
+      requestContext.injectResourceFields(instance);
+    }
+    catch (final IllegalAccessException | IOException | RuntimeException e) {
+      // Do not return a partially injected instance to the pool
+      outstandingCount.decrementAndGet();
+      discarded.increment();
+      throw e;
+    }
+
+    return instance;
+  }
+
+  /**
+   * Returns an idle instance from this pool, which is yet to be injected, or {@code null} if this pool has no idle instances.
+   *
+   * @return An idle instance from this pool, which is yet to be injected, or {@code null} if this pool has no idle instances.
+   */
+  Object poll() {
+    final Object instance = idle.poll();
+    if (instance != null) {
+      idleCount.decrementAndGet();
+      outstandingCount.incrementAndGet();
+      reused.increment();
+    }
+
+    return instance;
+  }
+
+  /**
+   * Resets the injected fields of the specified instance, and returns it to this pool, unless the specified instance is the entity of
+   * the response, or this pool already has its maximum number of idle instances. References to the specified instance that are held
+   * by the entity of the response are not detected.
+   *
+   * @param instance The instance previously returned by {@link #borrow(ContainerRequestContextImpl)}.
+   * @param entity The entity of the response, or {@code null} if there is none.
+   */
+  void release(final Object instance, final Object entity) {
+    outstandingCount.decrementAndGet();
+    if (instance == entity) {
+      leaked.increment();
+      if (logger.isWarnEnabled()) { logger.warn("Pooled instance of " + resourceClass.getName() + " escaped its request as the response entity, and will not be reused"); }
+      return;
+    }
+
+    recycle(instance);
+  }
+
+  /**
+   * Resets the injected fields of the specified instance, and returns it to this pool, unless this pool already has its maximum number
+   * of idle instances. Unlike {@link #release(Object,Object)}, the specified instance is not counted as having been outstanding.
+   *
+   * @param instance The instance of the resource class.
+   */
+  void recycle(final Object instance) {
+    try {
+      for (int i = 0, i$ = resetFields.length; i < i$; ++i) // [A]
+        resetFields[i].set(instance, resetValues[i]);
+    }
+    catch (final IllegalAccessException | RuntimeException e) {
+      discarded.increment();
+      if (logger.isDebugEnabled()) { logger.debug("Unable to reset pooled instance of " + resourceClass.getName(), e); }
+      return;
+    }
+
+    if (idleCount.incrementAndGet() > maxSize) {
+      idleCount.decrementAndGet();
+      discarded.increment();
+      return;
+    }
+
+    idle.offer(instance);
+  }
+
+  /**
+   * Returns the maximum number of idle instances retained by this pool.
+   *
+   * @return The maximum number of idle instances retained by this pool.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of idle instances in this pool.
+   *
+   * @return The number of idle instances in this pool.
+   */
+  public int getIdleCount() {
+    return idleCount.get();
+  }
+
+  /**
+   * Returns the number of instances that have been borrowed from this pool, and are yet to be released.
+   *
+   * @return The number of instances that have been borrowed from this pool, and are yet to be released.
+   */
+  public int getOutstandingCount() {
+    return outstandingCount.get();
+  }
+
+  /**
+   * Returns the number of instances that have been created, because this pool had no idle instances.
+   *
+   * @return The number of instances that have been created, because this pool had no idle instances.
+   */
+  public long getCreatedCount() {
+    return created.sum();
+  }
+
+  /**
+   * Returns the number of borrows that were served by an idle instance.
+   *
+   * @return The number of borrows that were served by an idle instance.
+   */
+  public long getReusedCount() {
+    return reused.sum();
+  }
+
+  /**
+   * Returns the number of instances that were not returned to this pool, because this pool was full, or because the instance could not
+   * be injected or reset.
+   *
+   * @return The number of instances that were not returned to this pool.
+   */
+  public long getDiscardedCount() {
+    return discarded.sum();
+  }
+
+  /**
+   * Returns the number of instances that escaped their request as the entity of the response.
+   *
+   * @return The number of instances that escaped their request as the entity of the response.
+   */
+  public long getLeakedCount() {
+    return leaked.sum();
+  }
+
+  @Override
+  public String toString() {
+    return resourceClass.getName() + "{maxSize=" + maxSize + ", idle=" + getIdleCount() + ", outstanding=" + getOutstandingCount() + ", created=" + getCreatedCount() + ", reused=" + getReusedCount() + ", discarded=" + getDiscardedCount() + ", leaked=" + getLeakedCount() + "}";
+  }
+}
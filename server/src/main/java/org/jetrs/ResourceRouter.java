@@ -0,0 +1,179 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A segment-level radix tree of the {@link UriTemplate}s of a list of {@link ResourceInfoImpl}s. Each {@link UriTemplate} is placed
+ * at the node of its {@linkplain UriTemplate#getLiteralSegments() literal segments}, such that routing a request path is a walk of
+ * hash lookups over the segments of the path, which returns only the {@link ResourceInfoImpl}s whose {@link UriTemplate} can possibly
+ * match the path. The regex of the {@link UriTemplate} remains the authority of whether it matches.
+ */
+final class ResourceRouter {
+  private static final ResourceInfoImpl[] EMPTY_RESOURCE_INFOS = {};
+  private static final int[] EMPTY_INDEXES = {};
+
+  /**
+   * Returns the hash of the region of the specified {@link String}, which is equal to {@link String#hashCode()} of the corresponding
+   * substring, spread so that the high bits also participate in the index into a power-of-2 table.
+   */
+  private static int hash(final String str, final int start, final int end) {
+    int h = 0;
+    for (int i = start; i < end; ++i) // [N]
+      h = 31 * h + str.charAt(i);
+
+    return h ^ (h >>> 16);
+  }
+
+  private static final class Node {
+    private String[] keys;
+    private Node[] children;
+    private int size;
+    private int[] indexes = EMPTY_INDEXES;
+
+    private Node getChild(final String path, final int start, final int end) {
+      final String[] keys = this.keys;
+      if (keys == null)
+        return null;
+
+      final int len = end - start;
+      final int mask = keys.length - 1;
+      for (int i = hash(path, start, end) & mask;; i = (i + 1) & mask) { // [A]
+        final String key = keys[i];
+        if (key == null)
+          return null;
+
+        if (key.length() == len && key.regionMatches(0, path, start, len))
+          return children[i];
+      }
+    }
+
+    private Node putChild(final String segment) {
+      if (keys == null) {
+        keys = new String[4];
+        children = new Node[4];
+      }
+      else if (size * 2 >= keys.length) {
+        final String[] keys = this.keys;
+        final Node[] children = this.children;
+        this.keys = new String[keys.length * 2];
+        this.children = new Node[keys.length * 2];
+        for (int i = 0, i$ = keys.length; i < i$; ++i) // [A]
+          if (keys[i] != null)
+            put(keys[i], children[i]);
+      }
+
+      final int mask = keys.length - 1;
+      for (int i = hash(segment, 0, segment.length()) & mask;; i = (i + 1) & mask) { // [A]
+        final String key = keys[i];
+        if (key == null)
+          break;
+
+        if (key.equals(segment))
+          return children[i];
+      }
+
+      final Node child = new Node();
+      put(segment, child);
+      ++size;
+      return child;
+    }
+
+    private void put(final String segment, final Node child) {
+      final int mask = keys.length - 1;
+      int i = hash(segment, 0, segment.length()) & mask;
+      while (keys[i] != null)
+        i = (i + 1) & mask;
+
+      keys[i] = segment;
+      children[i] = child;
+    }
+
+    private void addIndex(final int index) {
+      final int length = indexes.length;
+      indexes = Arrays.copyOf(indexes, length + 1);
+      indexes[length] = index;
+    }
+  }
+
+  private final ResourceInfoImpl[] resourceInfos;
+  private final Node root = new Node();
+
+  /**
+   * Creates a new {@link ResourceRouter} for the specified list of {@link ResourceInfoImpl}s.
+   *
+   * @param resourceInfos The list of {@link ResourceInfoImpl}s, which is expected to be sorted in order of precedence.
+   */
+  ResourceRouter(final List<ResourceInfoImpl> resourceInfos) {
+    final int size = resourceInfos.size();
+    this.resourceInfos = resourceInfos.toArray(new ResourceInfoImpl[size]);
+    for (int i = 0; i < size; ++i) { // [A]
+      Node node = root;
+      for (final String segment : this.resourceInfos[i].getUriTemplate().getLiteralSegments()) // [A]
+        node = node.putChild(segment);
+
+      node.addIndex(i);
+    }
+  }
+
+  /**
+   * Returns the {@link ResourceInfoImpl}s whose {@link UriTemplate} can possibly match the specified path, in the order of
+   * precedence of the list provided to the constructor. The cost of this method is proportional to the number of segments in the
+   * specified path, and not to the number of {@link ResourceInfoImpl}s in this router.
+   *
+   * @param path The normalized request path (with matrix parameters stripped out), starting with {@code '/'}.
+   * @return The {@link ResourceInfoImpl}s whose {@link UriTemplate} can possibly match the specified path.
+   */
+  ResourceInfoImpl[] route(final String path) {
+    final int[] indexes = route(root, path, path.length(), 1, 0);
+    final int length = indexes.length;
+    if (length == 0)
+      return EMPTY_RESOURCE_INFOS;
+
+    if (length > 1)
+      Arrays.sort(indexes);
+
+    final ResourceInfoImpl[] candidates = new ResourceInfoImpl[length];
+    for (int i = 0; i < length; ++i) // [A]
+      candidates[i] = resourceInfos[indexes[i]];
+
+    return candidates;
+  }
+
+  private static int[] route(final Node node, final String path, final int len, final int start, final int depth) {
+    final int[] indexes = node.indexes;
+    final int size = indexes.length;
+
+    Node next = null;
+    int end = len;
+    if (start < len) {
+      end = path.indexOf('/', start);
+      if (end < 0)
+        end = len;
+
+      next = node.getChild(path, start, end);
+    }
+
+    final int[] result = next != null ? route(next, path, len, end + 1, depth + size) : depth + size == 0 ? EMPTY_INDEXES : new int[depth + size];
+    if (size > 0)
+      System.arraycopy(indexes, 0, result, depth, size);
+
+    return result;
+  }
+}
@@ -24,6 +24,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.servlet.ServletException;
@@ -31,7 +32,6 @@ import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
-import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -110,7 +110,7 @@ abstract class RestApplicationServlet extends RestHttpServlet {
             try {
               final ServletInputStream in = getInputStream();
               if (in instanceof FormServletInputStream)
-                formParameterMap = EntityUtil.toStringArrayMap(((FormServletInputStream)in).getFormParameterMap(true));
+                formParameterMap = ((FormServletInputStream)in).getFormParameters().getStringArrayMap();
               else
                 formParameterMap = Collections.EMPTY_MAP;
             }
@@ -125,9 +125,11 @@ abstract class RestApplicationServlet extends RestHttpServlet {
         @Override
         public Map<String,String[]> getParameterMap() {
           if (parameterMap == null) {
-            final Map<String,String[]> parameterMap = getFormParameterMap();
+            Map<String,String[]> parameterMap = getFormParameterMap();
             final Map<String,String[]> queryParameterMap = getQueryParameterMap();
-            if (queryParameterMap.size() > 0) {
+            if (queryParameterMap.size() > 0 && parameterMap.size() > 0) {
+              // The form parameter map is shared with the FormServletInputStream, so the merged values are copied
+              parameterMap = new LinkedHashMap<>(parameterMap);
               for (final Map.Entry<String,String[]> entry : parameterMap.entrySet()) { // [S]
                 final String[] value = queryParameterMap.get(entry.getKey());
                 if (value != null)
@@ -185,7 +187,7 @@ abstract class RestApplicationServlet extends RestHttpServlet {
         // (2) Match
         requestContext.setStage(Stage.REQUEST_MATCH);
         if (!requestContext.filterAndMatch())
-          throw new NotFoundException();
+          throw RoutingExceptions.notFound();
 
         // (3) Filter Request
         requestContext.setStage(Stage.REQUEST_FILTER);
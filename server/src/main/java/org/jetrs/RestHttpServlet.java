@@ -85,6 +85,9 @@ abstract class RestHttpServlet extends HttpServlet {
       final ResourceInfos resourceInfos = new ResourceInfos();
       final ConfigurationImpl configuration = new ConfigurationImpl(new ServerComponents(application, resourceInfos, servletPath), application.getProperties());
       this.runtimeContext = new ServerRuntimeContext(configuration, servletConfig, getServletContext(), application, resourceInfos);
+      final RouteCache routeCache = resourceInfos.getRouteCache();
+      if (routeCache != null)
+        getServletContext().setAttribute(RouteCache.class.getName(), routeCache);
 
       final RuntimeDelegate runtimeDelegate = RuntimeDelegate.getInstance();
       if (!(runtimeDelegate instanceof RuntimeDelegateImpl))
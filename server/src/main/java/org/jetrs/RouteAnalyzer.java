@@ -0,0 +1,113 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Startup-time analyzer of the routes of a {@link ResourceInfos}, which must have been ranked. Two routes overlap if their
+ * {@link UriTemplate}s are of equal precedence, they have the same {@link HttpMethod}, and both their consumed and produced
+ * {@link MediaType}s are compatible. Such routes cannot be told apart at request time, and are thus ambiguous.
+ * <p>
+ * Routes that share their {@linkplain ResourceInfoImpl#getRank() rank} with no other route of the same {@link HttpMethod} are marked
+ * {@linkplain ResourceInfoImpl#isUnambiguous() unambiguous}, which allows the runtime to select them without comparing them to any
+ * runner-up candidate.
+ */
+final class RouteAnalyzer {
+  private static boolean overlaps(final MediaType[] mediaTypes1, final MediaType[] mediaTypes2) {
+    if (mediaTypes1 == null || mediaTypes2 == null)
+      return true;
+
+    for (final MediaType mediaType1 : mediaTypes1) // [A]
+      for (final MediaType mediaType2 : mediaTypes2) // [A]
+        if (mediaType1.isCompatible(mediaType2))
+          return true;
+
+    return false;
+  }
+
+  /**
+   * Analyzes the specified ranked {@link ResourceInfos}, marking each {@link ResourceInfoImpl} that is
+   * {@linkplain ResourceInfoImpl#isUnambiguous() unambiguous}, and returning the groups of overlapping {@link ResourceInfoImpl}s.
+   *
+   * @param resourceInfos The {@link ResourceInfos}, which is expected to be sorted and ranked.
+   * @return The groups of overlapping {@link ResourceInfoImpl}s, each of which has at least 2 members, or an empty list if there are
+   *         no overlapping routes. Each group consists of a {@link ResourceInfoImpl} and the subsequent {@link ResourceInfoImpl}s that
+   *         overlap with it. Since overlapping is not transitive, a {@link ResourceInfoImpl} may be a member of more than one group,
+   *         but no group is a subset of another.
+   */
+  static List<List<ResourceInfoImpl>> analyze(final ResourceInfos resourceInfos) {
+    final List<List<ResourceInfoImpl>> ambiguities = new ArrayList<>();
+    final int size = resourceInfos.size();
+    for (int i = 0; i < size;) { // [RA]
+      // Find the range [i, end) of ResourceInfoImpls of equal rank
+      final int rank = resourceInfos.get(i).getRank();
+      int end = i + 1;
+      while (end < size && resourceInfos.get(end).getRank() == rank)
+        ++end;
+
+      for (int j = i; j < end; ++j) { // [RA]
+        final ResourceInfoImpl resourceInfo = resourceInfos.get(j);
+        final HttpMethod httpMethod = resourceInfo.getHttpMethod();
+        boolean unambiguous = true;
+        List<ResourceInfoImpl> overlapping = null;
+        for (int k = i; k < end; ++k) { // [RA]
+          if (k == j)
+            continue;
+
+          final ResourceInfoImpl other = resourceInfos.get(k);
+          if (httpMethod == null ? other.getHttpMethod() != null : !httpMethod.equals(other.getHttpMethod()))
+            continue;
+
+          unambiguous = false;
+          // Report each group once, from its first member
+          if (k > j && overlaps(resourceInfo.getConsumesMediaTypes(), other.getConsumesMediaTypes()) && overlaps(resourceInfo.getProducesMediaTypes(), other.getProducesMediaTypes())) {
+            if (overlapping == null) {
+              overlapping = new ArrayList<>();
+              overlapping.add(resourceInfo);
+            }
+
+            overlapping.add(other);
+          }
+        }
+
+        resourceInfo.setUnambiguous(unambiguous);
+        if (overlapping != null && !isSubsetOfAny(ambiguities, overlapping))
+          ambiguities.add(overlapping);
+      }
+
+      i = end;
+    }
+
+    return ambiguities;
+  }
+
+  private static boolean isSubsetOfAny(final List<List<ResourceInfoImpl>> ambiguities, final List<ResourceInfoImpl> overlapping) {
+    for (int i = 0, i$ = ambiguities.size(); i < i$; ++i) // [RA]
+      if (ambiguities.get(i).containsAll(overlapping))
+        return true;
+
+    return false;
+  }
+
+  private RouteAnalyzer() {
+  }
+}
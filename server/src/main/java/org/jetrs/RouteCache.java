@@ -0,0 +1,182 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A size-bounded, concurrent, least-recently-used cache of route-match decisions, keyed by the request signature of method,
+ * normalized path, {@code Content-Type}, {@code Accept} and {@code Accept-Charset}. The cache is striped into segments, each of which
+ * is an access-ordered {@link LinkedHashMap} guarded by its own monitor.
+ * <p>
+ * A cached {@link Route} only records which {@link ResourceInfoImpl}s won, and with which compatible {@link MediaType}s. Path
+ * parameters are always extracted from the actual request URI.
+ * <p>
+ * The {@link RouteCache} of an application is available as the {@link javax.servlet.ServletContext} attribute named by the fully
+ * qualified name of this class, from which its metrics can be read.
+ */
+public final class RouteCache {
+  private static final int NO_SEGMENTS = 16;
+
+  /**
+   * The memoized decision of a route match, which holds the matched {@link ResourceInfoImpl}s in order of precedence, and the
+   * compatible {@link MediaType}s of each. The arrays of compatible {@link MediaType}s are shared with the negotiation caches of the
+   * {@link ResourceInfoImpl}s, and must not be modified.
+   */
+  static final class Route {
+    final ResourceInfoImpl[] resourceInfos;
+    final MediaType[][] compatibleMediaTypes;
+
+    Route(final ResourceMatches resourceMatches) {
+      final int size = resourceMatches.size();
+      this.resourceInfos = new ResourceInfoImpl[size];
+      this.compatibleMediaTypes = new MediaType[size][];
+      for (int i = 0; i < size; ++i) { // [RA]
+        final ResourceMatch resourceMatch = resourceMatches.get(i);
+        resourceInfos[i] = resourceMatch.getResourceInfo();
+        compatibleMediaTypes[i] = resourceMatch.getCompatibleMediaTypes();
+      }
+    }
+  }
+
+  private static final class Segment extends LinkedHashMap<String,Route> {
+    private final int capacity;
+
+    private Segment(final int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String,Route> eldest) {
+      return size() > capacity;
+    }
+  }
+
+  /**
+   * Returns the key of the request signature for the specified parameters.
+   *
+   * @param method The request method.
+   * @param path The normalized request path.
+   * @param contentType The raw {@code Content-Type} header string, or {@code null}.
+   * @param accept The raw {@code Accept} header string, or {@code null}.
+   * @param acceptCharset The raw {@code Accept-Charset} header string, or {@code null}.
+   * @return The key of the request signature for the specified parameters.
+   */
+  static String key(final String method, final String path, final String contentType, final String accept, final String acceptCharset) {
+    final StringBuilder b = new StringBuilder(method.length() + path.length() + 64);
+    b.append(method).append(' ').append(path).append('\n');
+    if (contentType != null)
+      b.append(contentType);
+
+    b.append('\n');
+    if (accept != null)
+      b.append(accept);
+
+    b.append('\n');
+    if (acceptCharset != null)
+      b.append(acceptCharset);
+
+    return b.toString();
+  }
+
+  private final Segment[] segments = new Segment[NO_SEGMENTS];
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new {@link RouteCache} with the specified maximum number of entries.
+   *
+   * @param size The maximum number of entries.
+   * @throws IllegalArgumentException If {@code size} is not positive.
+   */
+  RouteCache(final int size) {
+    if (size <= 0)
+      throw new IllegalArgumentException("size (" + size + ") must be positive");
+
+    final int capacity = (size + NO_SEGMENTS - 1) / NO_SEGMENTS;
+    for (int i = 0; i < NO_SEGMENTS; ++i) // [A]
+      segments[i] = new Segment(capacity);
+  }
+
+  private Segment segment(final String key) {
+    final int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (NO_SEGMENTS - 1)];
+  }
+
+  /**
+   * Returns the {@link Route} for the specified key, or {@code null} if the cache does not contain the key.
+   *
+   * @param key The key of the request signature.
+   * @return The {@link Route} for the specified key, or {@code null} if the cache does not contain the key.
+   */
+  Route get(final String key) {
+    final Segment segment = segment(key);
+    final Route route;
+    synchronized (segment) {
+      route = segment.get(key);
+    }
+
+    (route != null ? hits : misses).increment();
+    return route;
+  }
+
+  void put(final String key, final Route route) {
+    final Segment segment = segment(key);
+    synchronized (segment) {
+      segment.put(key, route);
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found a cached {@link Route}.
+   *
+   * @return The number of lookups that found a cached {@link Route}.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find a cached {@link Route}.
+   *
+   * @return The number of lookups that did not find a cached {@link Route}.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of cached {@link Route}s.
+   *
+   * @return The number of cached {@link Route}s.
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment segment : segments) { // [A]
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+
+    return size;
+  }
+}
@@ -0,0 +1,126 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import java.util.Set;
+
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.core.Response;
+
+/**
+ * Factory of the exceptions that signal routing failures, i.e. {@code 404 Not Found}, {@code 405 Method Not Allowed},
+ * {@code 406 Not Acceptable} and {@code 415 Unsupported Media Type}. The exceptions are subclasses of the respective
+ * {@link javax.ws.rs.WebApplicationException}s that do not fill in their stack trace, which is meaningless for a routing failure, and is
+ * the dominant cost of responding to a flood of unroutable requests.
+ * <p>
+ * Each {@link Stackless} exception is to be resolved to {@link javax.ws.rs.ext.ExceptionMapper}s as if it were an instance of its
+ * superclass, so that the mappers registered for the standard exception types are invoked exactly as before.
+ */
+final class RoutingExceptions {
+  /**
+   * Marker of an exception that does not fill in its stack trace, whose superclass is the exception type it stands for.
+   */
+  interface Stackless {
+  }
+
+  private static final class StacklessNotFoundException extends NotFoundException implements Stackless {
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  private static final class StacklessNotAllowedException extends NotAllowedException implements Stackless {
+    private StacklessNotAllowedException(final Response response) {
+      super(response);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  private static final class StacklessNotAcceptableException extends NotAcceptableException implements Stackless {
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  private static final class StacklessNotSupportedException extends NotSupportedException implements Stackless {
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * Returns the class by which the specified exception is to be resolved to {@link javax.ws.rs.ext.ExceptionMapper}s, which is the
+   * superclass of a {@link Stackless} exception, and the class of any other exception.
+   *
+   * @param t The exception.
+   * @return The class by which the specified exception is to be resolved to {@link javax.ws.rs.ext.ExceptionMapper}s.
+   */
+  static Class<?> getMappedClass(final Throwable t) {
+    final Class<?> cls = t.getClass();
+    return t instanceof Stackless ? cls.getSuperclass() : cls;
+  }
+
+  /**
+   * Returns a new {@link NotFoundException} without a stack trace.
+   *
+   * @return A new {@link NotFoundException} without a stack trace.
+   */
+  static NotFoundException notFound() {
+    return new StacklessNotFoundException();
+  }
+
+  /**
+   * Returns a new {@link NotAllowedException} without a stack trace, with the specified allowed methods.
+   *
+   * @param allowedMethods The allowed methods.
+   * @return A new {@link NotAllowedException} without a stack trace, with the specified allowed methods.
+   */
+  static NotAllowedException notAllowed(final Set<String> allowedMethods) {
+    return new StacklessNotAllowedException(Response.status(Response.Status.METHOD_NOT_ALLOWED).allow(allowedMethods).build());
+  }
+
+  /**
+   * Returns a new {@link NotAcceptableException} without a stack trace.
+   *
+   * @return A new {@link NotAcceptableException} without a stack trace.
+   */
+  static NotAcceptableException notAcceptable() {
+    return new StacklessNotAcceptableException();
+  }
+
+  /**
+   * Returns a new {@link NotSupportedException} without a stack trace.
+   *
+   * @return A new {@link NotSupportedException} without a stack trace.
+   */
+  static NotSupportedException notSupported() {
+    return new StacklessNotSupportedException();
+  }
+
+  private RoutingExceptions() {
+  }
+}
@@ -147,6 +147,8 @@ final class ServerComponents extends Components {
       resourceInfos.sort(null);
       for (int i = 0, i$ = resourceInfos.size(); i < i$; ++i) // [RA]
         resourceInfos.get(i).initDefaultValues(getParamConverterComponents());
+
+      resourceInfos.initRouter();
     }
   }
 
@@ -29,6 +29,93 @@ public final class ServerProperties {
    */
   public static final String CONTENT_LENGTH_BUFFER_SERVER = "jetrs.server.contentLength.buffer";
 
+  /**
+   * Whether the route-match decisions of requests are memoized in a size-bounded, least-recently-used cache keyed by the request
+   * method, normalized path, {@value HttpHeaders#CONTENT_TYPE}, {@value HttpHeaders#ACCEPT} and {@value HttpHeaders#ACCEPT_CHARSET}.
+   * <p>
+   * Default: {@code false}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @implNote The {@link RouteCache} of an application is available as the {@link javax.servlet.ServletContext} attribute named by
+   *           the fully qualified name of {@link RouteCache}.
+   * @see #ROUTE_CACHE_SIZE
+   */
+  public static final String ROUTE_CACHE = "jetrs.server.routeCache";
+
+  /**
+   * An integer value that defines the maximum number of route-match decisions held in the cache enabled by {@link #ROUTE_CACHE}.
+   * <p>
+   * Default: {@value #ROUTE_CACHE_SIZE_DEFAULT}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @see #ROUTE_CACHE
+   */
+  public static final String ROUTE_CACHE_SIZE = "jetrs.server.routeCache.size";
+
+  /**
+   * Default maximum number of route-match decisions held in the cache enabled by {@link #ROUTE_CACHE}.
+   */
+  public static final int ROUTE_CACHE_SIZE_DEFAULT = 4096;
+
+  /**
+   * Whether the server fails to start if routes are ambiguous, which is the case for routes of the same
+   * {@link javax.ws.rs.HttpMethod}, with {@link javax.ws.rs.Path}s of equal precedence, and with compatible
+   * {@link javax.ws.rs.Consumes} and {@link javax.ws.rs.Produces} media types. If {@code false}, ambiguous routes are logged once at
+   * startup.
+   * <p>
+   * Default: {@code false}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   */
+  public static final String STRICT_ROUTES = "jetrs.server.strictRoutes";
+
+  /**
+   * Whether instances of all request-scoped resource classes are recycled across requests, as if each were annotated with
+   * {@link Pooled}. Resource classes that cannot be pooled, because they have a public constructor with parameters, are not pooled.
+   * Resource classes that are not annotated with {@link Pooled} are also not pooled if they have an instance field that is neither
+   * injected with {@link javax.ws.rs.core.Context} or a {@code @*Param} annotation, nor final and of an immutable type (a primitive, a
+   * boxed primitive, {@link String}, or an enum), because its state would otherwise be carried into subsequent requests.
+   * <p>
+   * Default: {@code false}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @see #RESOURCE_POOL_SIZE
+   */
+  public static final String RESOURCE_POOL = "jetrs.server.resourcePool";
+
+  /**
+   * An integer value that defines the maximum number of idle instances retained per pooled resource class, unless specified by
+   * {@link Pooled#value()}.
+   * <p>
+   * Default: {@value #RESOURCE_POOL_SIZE_DEFAULT}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   *
+   * @see #RESOURCE_POOL
+   */
+  public static final String RESOURCE_POOL_SIZE = "jetrs.server.resourcePool.size";
+
+  /**
+   * Default maximum number of idle instances retained per pooled resource class.
+   */
+  public static final int RESOURCE_POOL_SIZE_DEFAULT = 32;
+
+  /**
+   * Whether the {@value HttpHeaders#CONTENT_LENGTH} header of the response to a {@code HEAD} request is omitted, unless it is specified
+   * by the resource, instead of being determined from the entity. If {@code false}, the {@value HttpHeaders#CONTENT_LENGTH} is
+   * determined with {@link javax.ws.rs.ext.MessageBodyWriter#getSize(Object,Class,java.lang.reflect.Type,java.lang.annotation.Annotation[],javax.ws.rs.core.MediaType)},
+   * or a {@link SizeProbe}, and only if neither knows the size, or if {@link javax.ws.rs.ext.WriterInterceptor}s are registered, by
+   * serializing the entity to a counting stream.
+   * <p>
+   * Default: {@code false}.
+   * <p>
+   * Configuration property: <tt>{@value}</tt>
+   */
+  public static final String OMIT_HEAD_CONTENT_LENGTH = "jetrs.server.head.omitContentLength";
+
   private ServerProperties() {
   }
 }
\ No newline at end of file
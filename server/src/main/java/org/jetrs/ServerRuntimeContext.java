@@ -17,7 +17,6 @@
 package org.jetrs;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Enumeration;
 
 import javax.servlet.ServletConfig;
@@ -32,9 +31,9 @@ final class ServerRuntimeContext extends RuntimeContext {
   private final ServletConfig servletConfig;
   private final ServletContext servletContext;
   private final Application application;
-  private final ArrayList<ResourceInfoImpl> resourceInfos;
+  private final ResourceInfos resourceInfos;
 
-  ServerRuntimeContext(final ConfigurationImpl configuration, final ServletConfig servletConfig, final ServletContext servletContext, final Application application, final ArrayList<ResourceInfoImpl> resourceInfos) {
+  ServerRuntimeContext(final ConfigurationImpl configuration, final ServletConfig servletConfig, final ServletContext servletContext, final Application application, final ResourceInfos resourceInfos) {
     super(configuration);
     this.resourceInfos = resourceInfos;
     this.servletConfig = servletConfig;
@@ -59,7 +58,7 @@ final class ServerRuntimeContext extends RuntimeContext {
     return application;
   }
 
-  ArrayList<ResourceInfoImpl> getResourceInfos() {
+  ResourceInfos getResourceInfos() {
     return resourceInfos;
   }
 
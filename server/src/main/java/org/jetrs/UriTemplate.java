@@ -142,9 +142,69 @@ class UriTemplate implements Comparable<UriTemplate> {
     return end - start - repeatedSlashes;
   }
 
+  /**
+   * Returns the literal path segments that precede the first path parameter in the specified {@code uriTemplate}. Repeated slashes
+   * are collapsed, and a segment that contains the start of a path parameter (i.e. {@code "b{id}"}) is not included.
+   *
+   * @param uriTemplate The URI template to parse.
+   * @param i$ The length of the {@code uriTemplate} string.
+   * @param start The character index at which the next segment starts.
+   * @param depth The number of literal segments parsed so far.
+   * @return The literal path segments that precede the first path parameter in the specified {@code uriTemplate}.
+   */
+  private static String[] parseLiteralSegments(final String uriTemplate, final int i$, final int start, final int depth) {
+    int end = start;
+    for (char ch; end < i$ && (ch = uriTemplate.charAt(end)) != '/'; ++end) // [N]
+      if (ch == '{')
+        return new String[depth];
+
+    if (end == start)
+      return end >= i$ ? new String[depth] : parseLiteralSegments(uriTemplate, i$, end + 1, depth);
+
+    final String[] segments = end == i$ ? new String[depth + 1] : parseLiteralSegments(uriTemplate, i$, end + 1, depth + 1);
+    segments[depth] = uriTemplate.substring(start, end);
+    return segments;
+  }
+
+  /**
+   * Returns the path parameter names of the specified regex name groups, with the {@link #DEL} suffix removed.
+   *
+   * @param pathParamNames The regex name groups corresponding to path parameter names.
+   * @return The path parameter names of the specified regex name groups, with the {@link #DEL} suffix removed.
+   */
+  private static String[] toPathParamKeys(final String[] pathParamNames) {
+    final int length = pathParamNames.length;
+    final String[] pathParamKeys = new String[length];
+    for (int i = 0; i < length; ++i) { // [A]
+      final String pathParamName = pathParamNames[i];
+      pathParamKeys[i] = pathParamName.substring(0, pathParamName.lastIndexOf(DEL, pathParamName.length() - 1));
+    }
+
+    return pathParamKeys;
+  }
+
+  private static int countDistinct(final String[] pathParamKeys) {
+    int count = 0;
+    OUT:
+    for (int i = 0, i$ = pathParamKeys.length; i < i$; ++i) { // [A]
+      for (int j = 0; j < i; ++j) // [A]
+        if (pathParamKeys[j].equals(pathParamKeys[i]))
+          continue OUT;
+
+      ++count;
+    }
+
+    return count;
+  }
+
   private final String uriTemplate;
-  private final Pattern pattern;
+  private final String regex;
+  private Pattern pattern;
+  private final String literal;
   private final String[] pathSegmentParamNames;
+  private final String[] pathParamKeys;
+  private final int distinctPathParams;
+  private final String[] literalSegments;
   private int literalChars;
   private int allGroups;
   private int nonDefaultGroups;
@@ -169,8 +229,23 @@ class UriTemplate implements Comparable<UriTemplate> {
 
     b.append("(/.*)?$");
 
-    this.pattern = Patterns.compile(b.toString());
+    this.regex = b.toString();
     this.allGroups = allGroups + nonDefaultGroups;
+    this.pathParamKeys = toPathParamKeys(pathSegmentParamNames);
+    this.distinctPathParams = countDistinct(pathParamKeys);
+    this.literalSegments = parseLiteralSegments(uriTemplate, uriTemplate.length(), 0, 0);
+    if (pathSegmentParamNames.length > 0) {
+      this.pattern = Patterns.compile(regex);
+      this.literal = null;
+    }
+    else {
+      // A literal-only template is matched with String.regionMatches(), and its Pattern is compiled only if matcher() is called
+      b.setLength(0);
+      for (final String literalSegment : literalSegments) // [A]
+        b.append('/').append(literalSegment);
+
+      this.literal = b.toString();
+    }
   }
 
   /**
@@ -323,13 +398,75 @@ class UriTemplate implements Comparable<UriTemplate> {
   }
 
   Matcher matcher(final String path) {
-    return pattern.matcher(path);
+    return (pattern != null ? pattern : (pattern = Patterns.compile(regex))).matcher(path);
+  }
+
+  /**
+   * Tests whether the specified path matches this {@link UriTemplate}.
+   *
+   * @param path The normalized request path.
+   * @return Whether the specified path matches this {@link UriTemplate}.
+   */
+  boolean matches(final String path) {
+    return literal != null ? matchesLiteral(path) : matcher(path).find();
+  }
+
+  /**
+   * Returns whether this {@link UriTemplate} has no path parameters, in which case it can be matched with
+   * {@link #matchesLiteral(String)} instead of {@link #matcher(String)}.
+   *
+   * @return Whether this {@link UriTemplate} has no path parameters.
+   */
+  boolean isLiteral() {
+    return literal != null;
+  }
+
+  /**
+   * Tests whether the specified path matches this literal-only {@link UriTemplate}, which is equivalent to
+   * {@code matcher(path).find()}, but without the use of regex.
+   *
+   * @param path The normalized request path.
+   * @return Whether the specified path matches this literal-only {@link UriTemplate}.
+   * @throws NullPointerException If this {@link UriTemplate} is not {@linkplain #isLiteral() literal}.
+   */
+  boolean matchesLiteral(final String path) {
+    final int len = literal.length();
+    return path.regionMatches(0, literal, 0, len) && (path.length() == len || path.charAt(len) == '/');
   }
 
   String[] getPathParamNames() {
     return pathSegmentParamNames;
   }
 
+  /**
+   * Returns the path parameter names of this {@link UriTemplate}, corresponding by index to {@link #getPathParamNames()}, but with the
+   * {@link #DEL} suffix removed.
+   *
+   * @return The path parameter names of this {@link UriTemplate}, with the {@link #DEL} suffix removed.
+   */
+  String[] getPathParamKeys() {
+    return pathParamKeys;
+  }
+
+  /**
+   * Returns the number of distinct path parameter names of this {@link UriTemplate}.
+   *
+   * @return The number of distinct path parameter names of this {@link UriTemplate}.
+   */
+  int getDistinctPathParams() {
+    return distinctPathParams;
+  }
+
+  /**
+   * Returns the literal path segments that precede the first path parameter of this {@link UriTemplate}. Any path that matches this
+   * {@link UriTemplate} is guaranteed to start with these segments.
+   *
+   * @return The literal path segments that precede the first path parameter of this {@link UriTemplate}.
+   */
+  String[] getLiteralSegments() {
+    return literalSegments;
+  }
+
   // [JAX-RS 2.1 3.7.2 2.f]
   @Override
   public int compareTo(final UriTemplate o) {
@@ -0,0 +1,129 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+
+import org.junit.Test;
+
+public class DefaultParamConverterProviderTest {
+  public static class Point {
+    final int x;
+
+    Point(final int x) {
+      this.x = x;
+    }
+  }
+
+  @Singleton
+  public static class PointConverterProvider implements ParamConverterProvider {
+    final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+      if (rawType != Point.class)
+        return null;
+
+      lookups.incrementAndGet();
+      return (ParamConverter<T>)new ParamConverter<Point>() {
+        @Override
+        public Point fromString(final String value) {
+          return new Point(Integer.parseInt(value));
+        }
+
+        @Override
+        public String toString(final Point value) {
+          return String.valueOf(value.x);
+        }
+      };
+    }
+  }
+
+  public void resource(@QueryParam("p") final Point p) {
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ComponentSet<Component<ParamConverterProvider>> register(final ComponentSet<Component<ParamConverterProvider>> components, final ParamConverterProvider provider) {
+    return ParamConverterComponent.register(components, (Class<ParamConverterProvider>)provider.getClass(), provider, false, null, -1);
+  }
+
+  private static Annotation[] getAnnotations() throws NoSuchMethodException {
+    // Returns a new array for each call
+    return DefaultParamConverterProviderTest.class.getMethod("resource", Point.class).getParameterAnnotations()[0];
+  }
+
+  private static Point convert(final ComponentSet<Component<ParamConverterProvider>> components) throws IOException, NoSuchMethodException {
+    return (Point)DefaultParamConverterProvider.convertParameter(Point.class, Point.class, getAnnotations(), ParamPlurality.SINGLE, "7", null, false, components, null);
+  }
+
+  @Test
+  public void testCachedByAnnotationContent() throws IOException, NoSuchMethodException {
+    final PointConverterProvider provider = new PointConverterProvider();
+    final ComponentSet<Component<ParamConverterProvider>> components = register(null, provider);
+    assertNotSame(getAnnotations(), getAnnotations());
+
+    assertEquals(7, convert(components).x);
+    assertEquals(7, convert(components).x);
+    assertEquals(1, provider.lookups.get());
+  }
+
+  @Test
+  public void testInvalidatedByRegistration() throws IOException, NoSuchMethodException {
+    final PointConverterProvider provider = new PointConverterProvider();
+    ComponentSet<Component<ParamConverterProvider>> components = register(null, provider);
+    assertEquals(7, convert(components).x);
+    assertEquals(1, provider.lookups.get());
+
+    final PointConverterProvider other = new PointConverterProvider() {
+    };
+
+    components = register(components, other);
+    assertEquals(7, convert(components).x);
+    assertEquals(2, provider.lookups.get() + other.lookups.get());
+  }
+
+  @Test
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void testNonSingletonNotCached() throws IOException, NoSuchMethodException {
+    final PointConverterProvider provider = new PointConverterProvider();
+    final ComponentSet<Component<ParamConverterProvider>> components = register(null, provider);
+    // A non-singleton provider that cannot be instantiated without a RequestContext
+    ParamConverterComponent.register(components, (Class)NonSingletonProvider.class, null, false, null, 0);
+
+    assertEquals(7, convert(components).x);
+    assertEquals(7, convert(components).x);
+    assertEquals(2, provider.lookups.get());
+  }
+
+  public static class NonSingletonProvider implements ParamConverterProvider {
+    @Override
+    public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+      return null;
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.util.Random;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jetrs.provider.ext.FileProvider;
+import org.junit.Test;
+
+public class FileProviderChannelTest {
+  private static final class ChannelOutputStream extends ByteArrayOutputStream implements WritableByteChannel {
+    private int channelWrites;
+    private int streamWrites;
+
+    @Override
+    public int write(final ByteBuffer src) {
+      ++channelWrites;
+      final int n = src.remaining();
+      final byte[] bytes = new byte[n];
+      src.get(bytes);
+      super.write(bytes, 0, n);
+      return n;
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+      ++streamWrites;
+      super.write(b, off, len);
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+      ++streamWrites;
+      super.write(b);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+  }
+
+  private static RelegateOutputStream newEntityStream(final ChannelOutputStream out) {
+    // As wired by ContainerResponseContextImpl: a RelegateOutputStream whose EntityOutputStream opens the container's output on demand
+    final RelegateOutputStream relegateOutputStream = new RelegateOutputStream();
+    relegateOutputStream.setTarget(new EntityOutputStream() {
+      @Override
+      protected boolean beforeWrite(final int b, final byte[] bs, final int off, final int len) {
+        if (target == null)
+          target = out;
+
+        return true;
+      }
+
+      @Override
+      protected void afterWrite(final int b, final byte[] bs, final int off, final int len) {
+        relegateOutputStream.setTarget(target);
+      }
+    });
+
+    return relegateOutputStream;
+  }
+
+  @Test
+  public void testGetChannel() throws IOException {
+    final ChannelOutputStream out = new ChannelOutputStream();
+    final OutputStream entityStream = newEntityStream(out);
+    assertSame(out, EntityChannels.getChannel(entityStream));
+    assertSame(out, EntityChannels.getChannel(entityStream)); // After the RelegateOutputStream has been relegated to the target
+    assertNull(EntityChannels.getChannel(new ByteArrayOutputStream()));
+  }
+
+  @Test
+  public void testTransferTo() throws IOException {
+    final byte[] bytes = new byte[200000];
+    new Random(1).nextBytes(bytes);
+    final File file = File.createTempFile("jetrs", null);
+    try {
+      Files.write(file.toPath(), bytes);
+      final ChannelOutputStream out = new ChannelOutputStream();
+      final MultivaluedMap<String,Object> httpHeaders = new MultivaluedHashMap<>();
+      new FileProvider().writeTo(file, File.class, File.class, null, null, httpHeaders, newEntityStream(out));
+
+      assertEquals((long)bytes.length, httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH));
+      assertArrayEquals(bytes, out.toByteArray());
+      assertTrue(out.channelWrites > 0);
+      assertEquals(0, out.streamWrites); // FileChannel.transferTo wrote to the channel, rather than through the heap fallback
+    }
+    finally {
+      file.delete();
+    }
+  }
+}
\ No newline at end of file
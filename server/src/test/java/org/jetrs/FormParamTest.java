@@ -0,0 +1,57 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import javax.ws.rs.Encoded;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Form;
+
+import org.junit.Test;
+
+public class FormParamTest extends SingleServiceTest {
+  private static final String entity = "content";
+
+  @Path("/")
+  public static class Resource {
+    @POST
+    public String post(@FormParam("a") final String a, @FormParam("b") final List<String> b, @FormParam("c") final String decoded, @FormParam("c") @Encoded final String encoded, @FormParam("d") final int d) {
+      // Each @FormParam is bound from the same form, which is read once
+      assertEquals("x", a);
+      assertEquals(2, b.size());
+      assertEquals("1", b.get(0));
+      assertEquals("2", b.get(1));
+      assertEquals("a b", decoded);
+      assertEquals("a+b", encoded);
+      assertEquals(7, d);
+      return entity;
+    }
+  }
+
+  @Test
+  public void testFormParams() {
+    startServer(Resource.class);
+    final Form form = new Form().param("a", "x").param("b", "1").param("b", "2").param("c", "a b").param("d", "7");
+    assertEquals(entity, target("/").post(Entity.form(form)).readEntity(String.class));
+  }
+}
\ No newline at end of file
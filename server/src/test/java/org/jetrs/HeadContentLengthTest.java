@@ -0,0 +1,112 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.jetrs.provider.ext.StringProvider;
+import org.junit.Test;
+
+public class HeadContentLengthTest {
+  public static class ProbedEntity {
+  }
+
+  public static class ProbedEntitySizeProbe implements SizeProbe {
+    @Override
+    public long getSize(final Object entity, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+      return entity instanceof ProbedEntity ? 42 : -1;
+    }
+  }
+
+  private static final Annotation[] annotations = {};
+
+  private static MessageBodyWriter<Object> newWriter(final long size) {
+    return new MessageBodyWriter<Object>() {
+      @Override
+      public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return true;
+      }
+
+      @Override
+      public long getSize(final Object t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return size;
+      }
+
+      @Override
+      public void writeTo(final Object t, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String,Object> httpHeaders, final OutputStream entityStream) {
+        fail("The entity of a HEAD request must not be serialized");
+      }
+    };
+  }
+
+  private static long getHeadContentLength(final boolean omit, final Object contentLength, final boolean hasWriterInterceptors, final MessageBodyWriter<?> writer, final Object entity) throws IOException {
+    return ContainerResponseContextImpl.getHeadContentLength(omit, contentLength, hasWriterInterceptors, writer, entity, entity.getClass(), entity.getClass(), annotations, MediaType.WILDCARD_TYPE);
+  }
+
+  @Test
+  public void testOmit() throws IOException {
+    assertEquals(ContainerResponseContextImpl.HEAD_CONTENT_LENGTH_UNSET, getHeadContentLength(true, null, false, newWriter(10), new ProbedEntity()));
+    assertEquals(ContainerResponseContextImpl.HEAD_CONTENT_LENGTH_UNSET, getHeadContentLength(true, null, true, newWriter(-1), new Object()));
+  }
+
+  @Test
+  public void testSpecified() throws IOException {
+    assertEquals(ContainerResponseContextImpl.HEAD_CONTENT_LENGTH_UNSET, getHeadContentLength(false, 5, true, newWriter(10), new ProbedEntity()));
+  }
+
+  @Test
+  public void testWriterInterceptors() throws IOException {
+    assertEquals(-1, getHeadContentLength(false, null, true, newWriter(10), new ProbedEntity()));
+  }
+
+  @Test
+  public void testWriter() throws IOException {
+    assertEquals(10, getHeadContentLength(false, null, false, newWriter(10), new ProbedEntity()));
+  }
+
+  @Test
+  public void testSizeProbe() throws IOException {
+    assertEquals(42, getHeadContentLength(false, null, false, newWriter(-1), new ProbedEntity()));
+  }
+
+  @Test
+  public void testUnknown() throws IOException {
+    assertEquals(-1, getHeadContentLength(false, null, false, newWriter(-1), new Object()));
+    // The size of a String is not probed for a writer other than StringProvider
+    assertEquals(-1, getHeadContentLength(false, null, false, newWriter(-1), "abc"));
+    assertEquals(-1, getHeadContentLength(false, null, false, newWriter(-1), new byte[3]));
+  }
+
+  @Test
+  public void testCharset() throws IOException {
+    final String entity = "\u00e9t\u00e9";
+    final MediaType latin1 = MediaType.valueOf("text/plain;charset=ISO-8859-1");
+    assertEquals(entity.getBytes(StandardCharsets.ISO_8859_1).length, ContainerResponseContextImpl.getHeadContentLength(false, null, false, new StringProvider(), entity, String.class, String.class, annotations, latin1));
+    final MediaType utf8 = MediaType.valueOf("text/plain;charset=UTF-8");
+    assertEquals(entity.getBytes(StandardCharsets.UTF_8).length, ContainerResponseContextImpl.getHeadContentLength(false, null, false, new StringProvider(), entity, String.class, String.class, annotations, utf8));
+  }
+}
\ No newline at end of file
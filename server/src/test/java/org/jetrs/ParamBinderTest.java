@@ -0,0 +1,113 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Invocation;
+
+import org.junit.Test;
+
+public class ParamBinderTest extends SingleServiceTest {
+  private static final String entity = "content";
+
+  @Path("/")
+  public static class Resource {
+    @GET
+    @Path("header")
+    public String header(@HeaderParam("X-String") final String string, @HeaderParam("X-Int") final int i, @HeaderParam("X-Absent") final String absent, @HeaderParam("X-Absent") @DefaultValue("7") final int defaultValue, @HeaderParam("X-Absent") final long primitive) {
+      assertEquals("a", string);
+      assertEquals(42, i);
+      assertNull(absent);
+      assertEquals(7, defaultValue);
+      assertEquals(0, primitive);
+      return entity;
+    }
+
+    @GET
+    @Path("header/plural")
+    public String headerPlural(@HeaderParam("X-String") final List<String> list, @HeaderParam("X-String") final String[] array, @HeaderParam("X-Absent") final Set<String> absentSet, @HeaderParam("X-Absent") final String[] absentArray) {
+      assertEquals(1, list.size());
+      assertEquals("a", list.get(0));
+      assertArrayEquals(new String[] {"a"}, array);
+      assertEquals(0, absentSet.size());
+      assertEquals(0, absentArray.length);
+      return entity;
+    }
+
+    @GET
+    @Path("query")
+    public String query(@QueryParam("s") final String s, @QueryParam("i") final List<Integer> i, @QueryParam("d") final String decoded, @QueryParam("absent") @DefaultValue("3") final int defaultValue) {
+      assertEquals("x", s);
+      assertEquals(2, i.size());
+      assertEquals(Integer.valueOf(1), i.get(0));
+      assertEquals(Integer.valueOf(2), i.get(1));
+      assertEquals("a b", decoded);
+      assertEquals(3, defaultValue);
+      return entity;
+    }
+
+    @GET
+    @Path("path/{id}/{name}")
+    public String path(@PathParam("id") final long id, @PathParam("name") final String name) {
+      assertEquals(5, id);
+      assertEquals("n", name);
+      return entity;
+    }
+  }
+
+  private void assertGet(final String path, final String ... headers) {
+    final Invocation.Builder builder = target(path);
+    for (int i = 0; i < headers.length; i += 2) // [A]
+      builder.header(headers[i], headers[i + 1]);
+
+    assertEquals(entity, builder.get().readEntity(String.class));
+  }
+
+  @Test
+  public void testHeaderParam() {
+    startServer(Resource.class);
+    assertGet("/header", "X-String", "a", "X-Int", "42");
+  }
+
+  @Test
+  public void testHeaderParamPlural() {
+    startServer(Resource.class);
+    assertGet("/header/plural", "X-String", "a");
+  }
+
+  @Test
+  public void testQueryParam() {
+    startServer(Resource.class);
+    assertGet("/query?s=x&i=1&i=2&d=a%20b");
+  }
+
+  @Test
+  public void testPathParam() {
+    startServer(Resource.class);
+    assertGet("/path/5/n");
+  }
+}
\ No newline at end of file
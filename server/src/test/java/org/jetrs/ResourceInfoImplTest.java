@@ -0,0 +1,92 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+
+public class ResourceInfoImplTest {
+  public static class Resource {
+    @GET
+    @Produces({"text/plain", "text/html"})
+    public String get() {
+      return null;
+    }
+  }
+
+  private static ResourceInfoImpl newResourceInfo() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = new ResourceInfos();
+    return new ResourceInfoImpl(resourceInfos, GET.class.getAnnotation(HttpMethod.class), Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/"), null);
+  }
+
+  private static List<MediaType> accept(final String accept) {
+    return Collections.singletonList(MediaTypes.parse(accept));
+  }
+
+  @Test
+  public void testContentTypeCache() throws NoSuchMethodException {
+    final ResourceInfoImpl resourceInfo = newResourceInfo();
+    final MediaType contentType = MediaTypes.parse("text/plain");
+    for (int i = 0; i < ResourceInfoImpl.MAX_NEGOTIATION_CACHE_SIZE * 4; ++i) { // [N]
+      final String key = "text/plain; x=" + i;
+      assertTrue(resourceInfo.isCompatibleContentType(key, contentType));
+      assertTrue(resourceInfo.contentTypeToCompatible.size() <= ResourceInfoImpl.MAX_NEGOTIATION_CACHE_SIZE);
+      assertTrue(resourceInfo.contentTypeToCompatible.containsKey(key)); // Still caching once full
+    }
+  }
+
+  @Test
+  public void testAcceptCache() throws NoSuchMethodException {
+    final ResourceInfoImpl resourceInfo = newResourceInfo();
+    final List<MediaType> acceptMediaTypes = accept("text/*");
+    for (int i = 0; i < ResourceInfoImpl.MAX_NEGOTIATION_CACHE_SIZE * 4; ++i) { // [N]
+      final String key = ResourceInfoImpl.getAcceptKey("text/*; x=" + i, null);
+      final MediaType[] compatible = resourceInfo.getCompatibleAccept(key, acceptMediaTypes, null);
+      assertEquals(2, compatible.length);
+      assertTrue(resourceInfo.acceptToCompatible.size() <= ResourceInfoImpl.MAX_NEGOTIATION_CACHE_SIZE);
+      assertSame(compatible, resourceInfo.getCompatibleAccept(key, acceptMediaTypes, null)); // Still caching once full
+    }
+  }
+
+  @Test
+  public void testAcceptCacheIsShared() throws NoSuchMethodException {
+    final ResourceInfoImpl resourceInfo = newResourceInfo();
+    final String key = ResourceInfoImpl.getAcceptKey("text/html", null);
+    final MediaType[] compatible = resourceInfo.getCompatibleAccept(key, accept("text/html"), null);
+    assertEquals(1, compatible.length);
+    assertEquals("html", compatible[0].getSubtype());
+
+    // The same array is handed to every ResourceMatch and RouteCache.Route of the same key, and none of them modify it
+    final ResourceMatch resourceMatch = new ResourceMatch(resourceInfo, "/", compatible, null, 0);
+    assertSame(compatible, resourceMatch.getCompatibleMediaTypes());
+    final ResourceMatches resourceMatches = new ResourceMatches();
+    resourceMatches.add(resourceMatch);
+    final RouteCache.Route route = new RouteCache.Route(resourceMatches);
+    assertSame(compatible, route.compatibleMediaTypes[0]);
+    assertSame(compatible, resourceInfo.getCompatibleAccept(key, accept("text/html"), null));
+    assertEquals("html", compatible[0].getSubtype());
+  }
+}
\ No newline at end of file
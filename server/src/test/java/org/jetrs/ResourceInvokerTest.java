@@ -0,0 +1,77 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class ResourceInvokerTest {
+  public static class Resource {
+    public int add(final int a, final long b) {
+      return (int)(a + b);
+    }
+
+    public String concat(final String a, final char[] b) {
+      return a + new String(b);
+    }
+
+    public void fail() throws IOException {
+      throw new IOException("fail");
+    }
+
+    public static boolean not(final boolean b) {
+      return !b;
+    }
+  }
+
+  static class Hidden {
+    public String echo(final String str) {
+      return str;
+    }
+  }
+
+  @Test
+  public void testGenerated() throws Throwable {
+    final Resource resource = new Resource();
+    final ResourceInvoker add = ResourceInvoker.newInstance(Resource.class.getMethod("add", int.class, long.class));
+    assertTrue(add.getClass().getSimpleName(), add.getClass().getSimpleName().matches("ResourceInvoker\\d+"));
+    assertEquals(3, add.invoke(resource, new Object[] {1, 2L}));
+    assertEquals("ab", ResourceInvoker.newInstance(Resource.class.getMethod("concat", String.class, char[].class)).invoke(resource, new Object[] {"a", new char[] {'b'}}));
+    assertEquals(Boolean.FALSE, ResourceInvoker.newInstance(Resource.class.getMethod("not", boolean.class)).invoke(null, new Object[] {true}));
+  }
+
+  @Test
+  public void testException() throws Throwable {
+    try {
+      ResourceInvoker.newInstance(Resource.class.getMethod("fail")).invoke(new Resource(), new Object[0]);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertEquals("fail", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testFallback() throws Throwable {
+    final ResourceInvoker echo = ResourceInvoker.newInstance(Hidden.class.getMethod("echo", String.class));
+    assertFalse(echo.getClass().getSimpleName().matches("ResourceInvoker\\d+"));
+    assertEquals("a", echo.invoke(new Hidden(), new Object[] {"a"}));
+  }
+}
@@ -0,0 +1,173 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+
+import org.junit.Test;
+
+public class ResourcePoolTest {
+  @Pooled(1)
+  public static class PooledResource {
+    @Context
+    private Application application;
+
+    @QueryParam("q")
+    private int q;
+
+    private String state;
+  }
+
+  @Pooled
+  public static class ParameterizedResource {
+    public ParameterizedResource(@QueryParam("q") final String q) {
+    }
+  }
+
+  public static class StatelessResource {
+    @QueryParam("q")
+    private String q;
+
+    private final int limit = 10;
+    private final String name = "stateless";
+    private final Integer count = 1;
+    private final Thread.State threadState = Thread.State.NEW;
+  }
+
+  public static class MutableFinalResource {
+    @QueryParam("q")
+    private String q;
+
+    private final StringBuilder builder = new StringBuilder();
+  }
+
+  public static class StatelessSubResource extends StatelessResource {
+  }
+
+  public static class StatefulSubResource extends StatefulResource {
+  }
+
+  public static class StatefulResource {
+    @QueryParam("q")
+    private String q;
+
+    private String state;
+  }
+
+  public static class UnpooledResource {
+  }
+
+  private static ResourcePool drain(final Class<?> resourceClass) {
+    final ResourcePool pool = ResourcePool.get(resourceClass, false);
+    while (pool.poll() != null); // [N]
+    return pool;
+  }
+
+  @Test
+  public void testNotPooled() {
+    assertNull(ResourcePool.get(UnpooledResource.class, false));
+    assertNull(ResourcePool.getInstance(UnpooledResource.class));
+  }
+
+  @Test
+  public void testConstructorWithParameters() {
+    assertNull(ResourcePool.get(ParameterizedResource.class, false));
+    assertNull(ResourcePool.get(ParameterizedResource.class, true));
+  }
+
+  @Test
+  public void testPoolAll() {
+    assertNotNull(ResourcePool.get(StatelessResource.class, true));
+    assertSame(ResourcePool.get(StatelessResource.class, true), ResourcePool.getInstance(StatelessResource.class));
+    assertNull(ResourcePool.get(StatefulResource.class, true));
+    assertNull(ResourcePool.getInstance(StatefulResource.class));
+  }
+
+  @Test
+  public void testMutableFinalField() {
+    assertNull(ResourcePool.get(MutableFinalResource.class, true));
+    assertNull(ResourcePool.getInstance(MutableFinalResource.class));
+  }
+
+  @Test
+  public void testInheritedFields() {
+    assertNotNull(ResourcePool.get(StatelessSubResource.class, true));
+    assertNull(ResourcePool.get(StatefulSubResource.class, true));
+  }
+
+  @Test
+  public void testRefusedIsCached() {
+    assertNull(ResourcePool.get(StatefulResource.class, true));
+    assertTrue(ResourcePool.pools.containsKey(StatefulResource.class));
+    assertNull(ResourcePool.get(StatefulResource.class, true));
+  }
+
+  @Test
+  public void testResetAndReuse() {
+    final ResourcePool pool = drain(PooledResource.class);
+    assertEquals(1, pool.getMaxSize());
+    assertNull(pool.poll());
+    final long reused = pool.getReusedCount();
+
+    final PooledResource resource = new PooledResource();
+    resource.application = new Application();
+    resource.q = 7;
+    resource.state = "state";
+    pool.recycle(resource);
+    assertEquals(1, pool.getIdleCount());
+
+    final int outstanding = pool.getOutstandingCount();
+    assertSame(resource, pool.poll());
+    assertEquals(outstanding + 1, pool.getOutstandingCount());
+    assertNull(resource.application);
+    assertEquals(0, resource.q);
+    assertEquals("state", resource.state); // Explicitly @Pooled, so non-injected state is retained
+    assertEquals(reused + 1, pool.getReusedCount());
+    assertEquals(0, pool.getIdleCount());
+
+    pool.release(resource, null);
+    assertEquals(1, pool.getIdleCount());
+    assertEquals(outstanding, pool.getOutstandingCount());
+  }
+
+  @Test
+  public void testMaxSize() {
+    final ResourcePool pool = drain(PooledResource.class);
+    final long discarded = pool.getDiscardedCount();
+    pool.recycle(new PooledResource());
+    pool.recycle(new PooledResource());
+    assertEquals(1, pool.getIdleCount());
+    assertEquals(discarded + 1, pool.getDiscardedCount());
+  }
+
+  @Test
+  public void testLeak() {
+    final ResourcePool pool = drain(PooledResource.class);
+    final long leaked = pool.getLeakedCount();
+    pool.recycle(new PooledResource());
+    final int outstanding = pool.getOutstandingCount();
+    final Object resource = pool.poll();
+    pool.release(resource, resource);
+    assertEquals(leaked + 1, pool.getLeakedCount());
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(outstanding, pool.getOutstandingCount());
+  }
+}
\ No newline at end of file
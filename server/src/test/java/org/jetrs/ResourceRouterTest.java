@@ -0,0 +1,211 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+
+import org.junit.Test;
+
+public class ResourceRouterTest {
+  public static class Resource {
+    @GET
+    public String get() {
+      return null;
+    }
+
+    @GET
+    @Produces("text/plain")
+    public String plain() {
+      return null;
+    }
+
+    @GET
+    @Produces("text/*")
+    public String text() {
+      return null;
+    }
+
+    @GET
+    @Produces("text/html")
+    public String html() {
+      return null;
+    }
+  }
+
+  private static final String[] templates = {
+    "/",
+    "/books",
+    "/books/{id}",
+    "/books/{id}/authors",
+    "/books//{id}/reviews/",
+    "/books/x{id}",
+    "/authors/{id}",
+    "/authors/current",
+    "/{any}",
+    "/{path:.*}/tail"
+  };
+
+  private static final String[] paths = {
+    "/",
+    "/books",
+    "/books/",
+    "/books/1",
+    "/books/1/authors",
+    "/books/1/reviews",
+    "/books/x1",
+    "/books//1",
+    "/authors",
+    "/authors/current",
+    "/authors/current/books",
+    "/a/b/c/tail",
+    "/unknown"
+  };
+
+  private static ResourceInfos newResourceInfos() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = new ResourceInfos();
+    final HttpMethod httpMethod = GET.class.getAnnotation(HttpMethod.class);
+    for (final String template : templates) // [A]
+      resourceInfos.add(new ResourceInfoImpl(resourceInfos, httpMethod, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath(template), null));
+
+    resourceInfos.sort(null);
+    resourceInfos.initRouter();
+    return resourceInfos;
+  }
+
+  @Test
+  public void testLiteralSegments() {
+    assertArrayEquals(new String[0], new UriTemplate("", null, new UriTemplateTest.TestPath("/")).getLiteralSegments());
+    assertArrayEquals(new String[] {"a", "b"}, new UriTemplate("", null, new UriTemplateTest.TestPath("/a//b/")).getLiteralSegments());
+    assertArrayEquals(new String[] {"api", "a"}, new UriTemplate("/api", new UriTemplateTest.TestPath("a"), new UriTemplateTest.TestPath("b{id}/c")).getLiteralSegments());
+    assertArrayEquals(new String[] {"a", "b"}, new UriTemplate("", new UriTemplateTest.TestPath("a"), new UriTemplateTest.TestPath("b/{id}")).getLiteralSegments());
+  }
+
+  @Test
+  public void testRoute() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = newResourceInfos();
+    final ResourceRouter router = resourceInfos.getRouter(HttpMethod.GET);
+    for (final String path : paths) { // [A]
+      final List<ResourceInfoImpl> candidates = Arrays.asList(router.route(path));
+      int last = -1;
+      for (final ResourceInfoImpl candidate : candidates) { // [L]
+        final int index = resourceInfos.indexOf(candidate);
+        assertTrue(path + ": " + candidates, index > last);
+        last = index;
+      }
+
+      for (final ResourceInfoImpl resourceInfo : resourceInfos) // [L]
+        if (resourceInfo.getUriTemplate().matcher(path).find())
+          assertTrue(path + " -> " + resourceInfo.getUriTemplate(), candidates.contains(resourceInfo));
+    }
+  }
+
+  @Test
+  public void testPrune() throws NoSuchMethodException {
+    final ResourceRouter router = newResourceInfos().getRouter(HttpMethod.GET);
+    assertEquals(3, router.route("/").length);
+    assertEquals(3, router.route("/unknown").length);
+    assertEquals(8, router.route("/books/1/authors").length);
+    assertEquals(5, router.route("/authors/current").length);
+  }
+
+  @Test
+  public void testRank() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = newResourceInfos();
+    for (int i = 1, i$ = resourceInfos.size(); i < i$; ++i) { // [RA]
+      final ResourceInfoImpl prev = resourceInfos.get(i - 1);
+      final ResourceInfoImpl next = resourceInfos.get(i);
+      assertEquals(Integer.signum(prev.compareTo(next)), Integer.signum(Integer.compare(prev.getRank(), next.getRank())));
+    }
+  }
+
+  @Test
+  public void testAmbiguity() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = new ResourceInfos();
+    final HttpMethod get = GET.class.getAnnotation(HttpMethod.class);
+    final HttpMethod post = POST.class.getAnnotation(HttpMethod.class);
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/{id}"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/{name}"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, post, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/{id}"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books"), null));
+    resourceInfos.sort(null);
+    resourceInfos.initRouter();
+
+    final List<List<ResourceInfoImpl>> ambiguities = RouteAnalyzer.analyze(resourceInfos);
+    assertEquals(1, ambiguities.size());
+    assertEquals(2, ambiguities.get(0).size());
+    for (final ResourceInfoImpl resourceInfo : resourceInfos) // [L]
+      assertEquals(resourceInfo.toString(), !ambiguities.get(0).contains(resourceInfo), resourceInfo.isUnambiguous());
+  }
+
+  @Test
+  public void testOverlappingAmbiguities() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = new ResourceInfos();
+    final HttpMethod get = GET.class.getAnnotation(HttpMethod.class);
+    final ResourceInfoImpl plain = new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("plain"), "", null, new UriTemplateTest.TestPath("/books"), null);
+    final ResourceInfoImpl text = new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("text"), "", null, new UriTemplateTest.TestPath("/books"), null);
+    final ResourceInfoImpl html = new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("html"), "", null, new UriTemplateTest.TestPath("/books"), null);
+    resourceInfos.add(plain);
+    resourceInfos.add(text);
+    resourceInfos.add(html);
+    resourceInfos.sort(null);
+    resourceInfos.initRouter();
+
+    // text/plain and text/html each overlap with text/*, but not with each other
+    final List<List<ResourceInfoImpl>> ambiguities = RouteAnalyzer.analyze(resourceInfos);
+    assertEquals(2, ambiguities.size());
+    for (final List<ResourceInfoImpl> ambiguity : ambiguities) { // [L]
+      assertEquals(2, ambiguity.size());
+      assertTrue(ambiguity.contains(text));
+    }
+
+    assertTrue(ambiguities.get(0).contains(plain) ? ambiguities.get(1).contains(html) : ambiguities.get(0).contains(html) && ambiguities.get(1).contains(plain));
+  }
+
+  @Test
+  public void testAllowedMethods() throws NoSuchMethodException {
+    final ResourceInfos resourceInfos = new ResourceInfos();
+    final HttpMethod get = GET.class.getAnnotation(HttpMethod.class);
+    final HttpMethod post = POST.class.getAnnotation(HttpMethod.class);
+    final HttpMethod delete = DELETE.class.getAnnotation(HttpMethod.class);
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, post, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, get, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/{id}"), null));
+    resourceInfos.add(new ResourceInfoImpl(resourceInfos, delete, Resource.class.getMethod("get"), "", null, new UriTemplateTest.TestPath("/books/{id}"), null));
+    resourceInfos.sort(null);
+    resourceInfos.initRouter();
+
+    assertEquals(2, resourceInfos.getRouter(HttpMethod.GET).route("/books/1").length);
+    assertEquals(1, resourceInfos.getRouter(HttpMethod.POST).route("/books/1").length);
+    assertEquals(0, resourceInfos.getRouter(HttpMethod.PUT).route("/books/1").length);
+
+    final Set<String> allowedMethods = resourceInfos.getAllowedMethods("/books");
+    assertEquals("[GET, POST]", allowedMethods.toString());
+    assertSame(allowedMethods, resourceInfos.getAllowedMethods("/books/"));
+    assertEquals("[DELETE, GET, POST]", resourceInfos.getAllowedMethods("/books/1").toString());
+    assertNull(resourceInfos.getAllowedMethods("/authors"));
+  }
+}
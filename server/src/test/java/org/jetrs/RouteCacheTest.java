@@ -0,0 +1,45 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class RouteCacheTest {
+  @Test
+  public void testKey() {
+    assertEquals("GET /a\n\napplication/json\n", RouteCache.key("GET", "/a", null, "application/json", null));
+    assertNotEquals(RouteCache.key("GET", "/a", "text/plain", null, null), RouteCache.key("GET", "/a", null, "text/plain", null));
+  }
+
+  @Test
+  public void testBounded() {
+    final RouteCache routeCache = new RouteCache(32);
+    final RouteCache.Route route = new RouteCache.Route(new ResourceMatches());
+    for (int i = 0; i < 1000; ++i) // [N]
+      routeCache.put(RouteCache.key("GET", "/" + i, null, null, null), route);
+
+    assertTrue(routeCache.size() <= 32);
+
+    final String key = RouteCache.key("GET", "/999", null, null, null);
+    assertSame(route, routeCache.get(key));
+    assertNull(routeCache.get(RouteCache.key("GET", "/0", null, null, null)));
+    assertEquals(1, routeCache.getHitCount());
+    assertEquals(1, routeCache.getMissCount());
+  }
+}
@@ -0,0 +1,122 @@
+/* Copyright (c) 2026 JetRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.jetrs;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.junit.Test;
+
+public class RoutingExceptionsTest extends SingleServiceTest {
+  @Path("/")
+  public static class Resource {
+    @GET
+    @Produces("text/plain")
+    public String get() {
+      return "get";
+    }
+
+    @POST
+    @Consumes("text/plain")
+    public String post(final String entity) {
+      return entity;
+    }
+  }
+
+  private static Response toResponse(final WebApplicationException exception) {
+    assertTrue(exception instanceof RoutingExceptions.Stackless);
+    return Response.fromResponse(exception.getResponse()).entity(exception.getClass().getSuperclass().getSimpleName()).type(MediaType.TEXT_PLAIN_TYPE).build();
+  }
+
+  public static class NotFoundMapper implements ExceptionMapper<NotFoundException> {
+    @Override
+    public Response toResponse(final NotFoundException exception) {
+      return RoutingExceptionsTest.toResponse(exception);
+    }
+  }
+
+  public static class NotAllowedMapper implements ExceptionMapper<NotAllowedException> {
+    @Override
+    public Response toResponse(final NotAllowedException exception) {
+      return RoutingExceptionsTest.toResponse(exception);
+    }
+  }
+
+  public static class NotAcceptableMapper implements ExceptionMapper<NotAcceptableException> {
+    @Override
+    public Response toResponse(final NotAcceptableException exception) {
+      return RoutingExceptionsTest.toResponse(exception);
+    }
+  }
+
+  public static class NotSupportedMapper implements ExceptionMapper<NotSupportedException> {
+    @Override
+    public Response toResponse(final NotSupportedException exception) {
+      return RoutingExceptionsTest.toResponse(exception);
+    }
+  }
+
+  @Test
+  public void testMappedClass() {
+    assertEquals(NotFoundException.class, RoutingExceptions.getMappedClass(RoutingExceptions.notFound()));
+    assertEquals(NotAllowedException.class, RoutingExceptions.getMappedClass(RoutingExceptions.notAllowed(new HashSet<>(Arrays.asList("GET", "POST")))));
+    assertEquals(NotAcceptableException.class, RoutingExceptions.getMappedClass(RoutingExceptions.notAcceptable()));
+    assertEquals(NotSupportedException.class, RoutingExceptions.getMappedClass(RoutingExceptions.notSupported()));
+    assertEquals(IllegalStateException.class, RoutingExceptions.getMappedClass(new IllegalStateException()));
+    assertEquals(0, RoutingExceptions.notFound().getStackTrace().length);
+  }
+
+  @Test
+  public void testNotAllowedHasAllow() {
+    final NotAllowedException exception = RoutingExceptions.notAllowed(new HashSet<>(Arrays.asList("GET", "POST")));
+    assertEquals(new HashSet<>(Arrays.asList("GET", "POST")), exception.getResponse().getAllowedMethods());
+  }
+
+  private static void assertMapped(final Response response, final Response.Status status, final Class<?> exceptionClass) {
+    assertEquals(status.getStatusCode(), response.getStatus());
+    assertEquals(exceptionClass.getSimpleName(), response.readEntity(String.class));
+  }
+
+  @Test
+  public void testMappers() {
+    startServer(Resource.class, NotFoundMapper.class, NotAllowedMapper.class, NotAcceptableMapper.class, NotSupportedMapper.class);
+    assertMapped(target("/missing").get(), Response.Status.NOT_FOUND, NotFoundException.class);
+    assertMapped(target("/").accept(MediaType.APPLICATION_JSON).get(), Response.Status.NOT_ACCEPTABLE, NotAcceptableException.class);
+    assertMapped(target("/").post(Entity.json("{}")), Response.Status.UNSUPPORTED_MEDIA_TYPE, NotSupportedException.class);
+
+    final Response response = target("/").delete();
+    assertTrue(response.getAllowedMethods().containsAll(Arrays.asList("GET", "POST")));
+    assertMapped(response, Response.Status.METHOD_NOT_ALLOWED, NotAllowedException.class);
+  }
+}
\ No newline at end of file
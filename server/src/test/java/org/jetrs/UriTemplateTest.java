@@ -159,6 +159,19 @@ public class UriTemplateTest {
     assertEquals(arg2, matcher.group(2));
   }
 
+  @Test
+  public void testLiteral() {
+    final String[] paths = {"", "/", "/test", "/test/", "/test/bar", "/testbar", "/test/bar/baz", "/tes", "/test//bar", "/other"};
+    final UriTemplate[] uriTemplates = {pathToUriTemplate(null, "/", 0), pathToUriTemplate("test", null, 0), pathToUriTemplate("/test/", "//bar///", 0), pathToUriTemplate("test.", "a-b", 0)};
+    for (final UriTemplate uriTemplate : uriTemplates) { // [A]
+      assertTrue(uriTemplate.isLiteral());
+      for (final String path : paths) // [A]
+        Assert.assertEquals(uriTemplate + " " + path, uriTemplate.matcher(path).find(), uriTemplate.matchesLiteral(path));
+    }
+
+    assertFalse(pathToUriTemplate("test", "{id}", 1).isLiteral());
+  }
+
   @Test
   public void testFailEmptyName() {
     try {